@@ -0,0 +1,11 @@
+package com.khu.acc.newsfeed.config;
+
+/**
+ * 미리 갱신(refresh-ahead) 캐시 값 래퍼
+ *
+ * @param value         캐시 값
+ * @param computeMillis 값을 계산하는 데 걸린 시간 (XFetch 조기 갱신 확률 계산용)
+ * @param softExpiresAt 논리 만료 시각 (epoch millis, 이후에도 Redis TTL 까지는 이전 값을 반환하며 갱신)
+ */
+public record CacheEnvelope<T>(T value, long computeMillis, long softExpiresAt) {
+}
@@ -0,0 +1,22 @@
+package com.khu.acc.newsfeed.config;
+
+import java.util.Set;
+
+/**
+ * 미리 갱신(refresh-ahead) 재계산 로더
+ * <p>
+ * 백그라운드 갱신은 원래 요청의 메서드 호출(CacheOperationInvoker)을 다시 실행하지 않고 캐시 키만으로 값을 계산한다.
+ * 요청이 끝난 뒤 다른 스레드에서 실행되므로 요청의 트랜잭션/보안 컨텍스트에 기대지 않아야 한다.
+ */
+public interface CacheRefreshLoader {
+
+    /**
+     * 이 로더가 재계산하는 캐시 이름
+     */
+    Set<String> cacheNames();
+
+    /**
+     * 캐시 키에 해당하는 값 재계산 (키 형식을 알 수 없으면 null, 결과는 캐시에 저장되지 않음)
+     */
+    Object load(String cacheName, Object key) throws Exception;
+}
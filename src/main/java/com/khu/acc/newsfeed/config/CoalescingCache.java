@@ -0,0 +1,347 @@
+package com.khu.acc.newsfeed.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+/**
+ * 캐시 미스 요청 병합 (single-flight) 및 미리 갱신 (refresh-ahead)
+ * <p>
+ * {@code @Cacheable(sync = true)} 로 들어온 미스를 키 단위로 묶는다.
+ * 인스턴스 안에서는 같은 키의 동시 로드가 하나의 future 를 공유하고,
+ * 인스턴스 사이에서는 Redis 임대(SET NX PX)를 얻은 노드만 다시 계산하며 나머지는 잠시 캐시에 값이 채워지기를 기다린다.
+ * 대기 시간 안에 값이 채워지지 않으면 직접 계산한다. (임대 보유 노드 장애 시에도 요청이 막히지 않도록)
+ * <p>
+ * 미리 갱신이 설정된 캐시는 값을 {@link CacheEnvelope} 로 저장한다. 조회 시 XFetch 방식
+ * (now - 계산시간 * beta * ln(rand) >= 논리 만료)으로 만료 전에 확률적으로 백그라운드 재계산을 시작하고,
+ * 새 값이 저장될 때까지 기존 값을 반환한다. 논리 만료는 Redis TTL 보다 grace 만큼 이르게 잡는다.
+ * 재계산은 요청의 valueLoader 가 아닌 캐시별 {@link CacheRefreshLoader} 로 수행한다.
+ * (valueLoader 는 원래 요청의 메서드 호출에 묶여 있어 요청이 끝난 뒤 다른 스레드에서 실행하면 안 됨)
+ */
+@Slf4j
+public class CoalescingCache implements Cache {
+
+    private static final String LEASE_KEY_PREFIX = "lease:";
+    private static final long POLL_INTERVAL_MILLIS = 25L;
+
+    // 임대 보유자일 때만 삭제
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    /**
+     * 미리 갱신 설정
+     *
+     * @param ttl   캐시 항목 TTL (Redis)
+     * @param grace 논리 만료 후 이전 값을 계속 반환하는 시간 (TTL 에서 차감)
+     * @param beta  XFetch 조기 갱신 강도 (1.0 기본, 클수록 일찍 갱신)
+     */
+    public record RefreshAheadSpec(Duration ttl, Duration grace, double beta) {
+    }
+
+    private final Cache delegate;
+    // 캐시하지 않을 결과 조건 (예: 부분 응답)
+    private final Predicate<Object> skipCaching;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Duration leaseTtl;
+    private final Duration leaseWait;
+    // 미리 갱신 설정 (null 이면 사용 안 함)
+    private final RefreshAheadSpec refreshAhead;
+    private final CacheRefreshLoader refreshLoader;
+    private final Executor refreshExecutor;
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    public CoalescingCache(Cache delegate, Predicate<Object> skipCaching, StringRedisTemplate stringRedisTemplate,
+                           MeterRegistry meterRegistry, Duration leaseTtl, Duration leaseWait,
+                           RefreshAheadSpec refreshAhead, CacheRefreshLoader refreshLoader,
+                           Executor refreshExecutor) {
+        this.delegate = delegate;
+        this.skipCaching = skipCaching;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.leaseTtl = leaseTtl;
+        this.leaseWait = leaseWait;
+        this.refreshAhead = refreshAhead;
+        this.refreshLoader = refreshLoader;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    /**
+     * 감싼 캐시 (일괄 조회에서 L1 을 직접 읽을 때 사용)
+     */
+    public Cache getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper cached = lookup(key);
+        return cached != null ? new SimpleValueWrapper(unwrap(cached.get())) : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper cached = get(key);
+        Object value = cached != null ? cached.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = lookup(key);
+        if (cached != null) {
+            Object stored = cached.get();
+            if (refreshAhead != null && stored instanceof CacheEnvelope<?> envelope && shouldRefreshEarly(envelope)) {
+                scheduleRefresh(key);
+            }
+            return (T) unwrap(stored);
+        }
+
+        String flightKey = String.valueOf(key);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+        if (existing != null) {
+            // 같은 인스턴스에서 이미 계산 중인 로드에 합류
+            record("joined");
+            return (T) join(existing, key);
+        }
+
+        try {
+            Object value = loadOnce(key, flightKey, valueLoader);
+            flight.complete(value);
+            return (T) value;
+        } catch (Throwable e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        store(key, value, 0L);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    /**
+     * 클러스터 단위 1회 로드 (임대를 얻지 못하면 다른 노드의 결과를 기다림)
+     */
+    private Object loadOnce(Object key, String flightKey, Callable<?> valueLoader) {
+        String leaseKey = leaseKey(flightKey);
+        String token = UUID.randomUUID().toString();
+
+        boolean leased = tryAcquire(leaseKey, token, true);
+        if (!leased) {
+            ValueWrapper filled = awaitFill(key);
+            if (filled != null) {
+                record("lease_wait_hit");
+                return unwrap(filled.get());
+            }
+            // 임대 보유 노드가 늦거나 실패한 경우 직접 계산
+            record("lease_timeout");
+        } else {
+            record("leader");
+        }
+
+        try {
+            return compute(key, valueLoader);
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            if (leased) {
+                release(leaseKey, token);
+            }
+        }
+    }
+
+    /**
+     * XFetch 조기 갱신 판단 (논리 만료에 가까울수록, 계산 비용이 클수록 갱신 확률 증가)
+     */
+    private boolean shouldRefreshEarly(CacheEnvelope<?> envelope) {
+        double random = ThreadLocalRandom.current().nextDouble();
+        double earlyMillis = -envelope.computeMillis() * refreshAhead.beta() * Math.log(random);
+        return System.currentTimeMillis() + earlyMillis >= envelope.softExpiresAt();
+    }
+
+    /**
+     * 백그라운드 재계산 (인스턴스당 키별 1개, 클러스터에서는 임대를 얻은 노드만)
+     */
+    private void scheduleRefresh(Object key) {
+        String flightKey = String.valueOf(key);
+        if (!refreshing.add(flightKey)) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> {
+                String leaseKey = leaseKey(flightKey);
+                String token = UUID.randomUUID().toString();
+                try {
+                    if (!tryAcquire(leaseKey, token, false)) {
+                        // 다른 노드가 갱신 중
+                        recordRefresh("skipped");
+                        return;
+                    }
+                    try {
+                        Object value = compute(key, () -> refreshLoader.load(getName(), key));
+                        recordRefresh(value != null ? "completed" : "unsupported");
+                    } finally {
+                        release(leaseKey, token);
+                    }
+                } catch (Exception e) {
+                    recordRefresh("failed");
+                    log.warn("Refresh-ahead of {}::{} failed, serving previous value until expiry", getName(), key, e);
+                } finally {
+                    refreshing.remove(flightKey);
+                }
+            });
+            recordRefresh("triggered");
+        } catch (RejectedExecutionException e) {
+            // 갱신 대기열이 가득 참 (기존 값을 계속 반환하고 다음 조회에서 다시 시도)
+            refreshing.remove(flightKey);
+            recordRefresh("rejected");
+            log.debug("Refresh-ahead of {}::{} rejected, queue is full", getName(), key);
+        }
+    }
+
+    private Object compute(Object key, Callable<?> valueLoader) throws Exception {
+        long start = System.nanoTime();
+        Object value = valueLoader.call();
+        long computeMillis = (System.nanoTime() - start) / 1_000_000L;
+        if (value != null && !skipCaching.test(value)) {
+            store(key, value, computeMillis);
+        }
+        return value;
+    }
+
+    private void store(Object key, Object value, long computeMillis) {
+        if (refreshAhead == null || value == null) {
+            delegate.put(key, value);
+            return;
+        }
+        long softExpiresAt = System.currentTimeMillis() + refreshAhead.ttl().minus(refreshAhead.grace()).toMillis();
+        delegate.put(key, new CacheEnvelope<>(value, computeMillis, softExpiresAt));
+    }
+
+    /**
+     * 저장 형식이 바뀌어 값이 비어 있는 envelope 은 미스로 처리
+     */
+    private ValueWrapper lookup(Object key) {
+        ValueWrapper cached = delegate.get(key);
+        if (cached != null && cached.get() instanceof CacheEnvelope<?> envelope && envelope.value() == null) {
+            return null;
+        }
+        return cached;
+    }
+
+    private static Object unwrap(Object stored) {
+        return stored instanceof CacheEnvelope<?> envelope ? envelope.value() : stored;
+    }
+
+    private String leaseKey(String flightKey) {
+        return LEASE_KEY_PREFIX + getName() + "::" + flightKey;
+    }
+
+    private boolean tryAcquire(String leaseKey, String token, boolean onFailure) {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(leaseKey, token, leaseTtl));
+        } catch (Exception e) {
+            // Redis 장애 시 미스 로드는 인스턴스 내 병합만 적용, 미리 갱신은 생략
+            log.warn("Failed to acquire cache lease {}", leaseKey, e);
+            return onFailure;
+        }
+    }
+
+    private void release(String leaseKey, String token) {
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(leaseKey), token);
+        } catch (Exception e) {
+            // 해제 실패 시 임대는 TTL 로 만료
+            log.warn("Failed to release cache lease {}", leaseKey, e);
+        }
+    }
+
+    private ValueWrapper awaitFill(Object key) {
+        long deadline = System.nanoTime() + leaseWait.toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            ValueWrapper filled = lookup(key);
+            if (filled != null) {
+                return filled;
+            }
+        }
+        return null;
+    }
+
+    private Object join(CompletableFuture<Object> flight, Object key) {
+        try {
+            return flight.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for cache load of " + key, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Cache load failed for " + key, e.getCause());
+        }
+    }
+
+    private void record(String outcome) {
+        meterRegistry.counter("cache.coalesced.loads", "cache", getName(), "outcome", outcome).increment();
+    }
+
+    private void recordRefresh(String outcome) {
+        meterRegistry.counter("cache.refresh.ahead", "cache", getName(), "outcome", outcome).increment();
+    }
+}
@@ -0,0 +1,106 @@
+package com.khu.acc.newsfeed.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * 지정한 캐시의 미스 로드를 {@link CoalescingCache} 로 병합하는 CacheManager
+ * <p>
+ * 대상 캐시마다 캐시하지 않을 결과 조건을 함께 지정한다. (sync = true 는 unless 를 지원하지 않으므로)
+ * 미리 갱신 설정이 있는 캐시는 만료 전에 해당 캐시의 {@link CacheRefreshLoader} 로 백그라운드 재계산한다.
+ * 로더는 캐시를 처음 사용할 때 찾는다. (로더가 서비스 빈에 의존하므로 CacheManager 생성 시점에는 찾지 않음)
+ */
+@Slf4j
+public class CoalescingCacheManager implements CacheManager {
+
+    private static final int REFRESH_THREADS = 4;
+    private static final int REFRESH_QUEUE_CAPACITY = 256;
+
+    private final CacheManager delegate;
+    private final Map<String, Predicate<Object>> coalescedCaches;
+    private final Map<String, CoalescingCache.RefreshAheadSpec> refreshAheadSpecs;
+    private final ObjectProvider<CacheRefreshLoader> refreshLoaders;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Duration leaseTtl;
+    private final Duration leaseWait;
+    private final ThreadPoolExecutor refreshExecutor;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public CoalescingCacheManager(CacheManager delegate, Map<String, Predicate<Object>> coalescedCaches,
+                                  Map<String, CoalescingCache.RefreshAheadSpec> refreshAheadSpecs,
+                                  ObjectProvider<CacheRefreshLoader> refreshLoaders, StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry,
+                                  Duration leaseTtl, Duration leaseWait) {
+        this.delegate = delegate;
+        this.coalescedCaches = coalescedCaches;
+        this.refreshAheadSpecs = refreshAheadSpecs;
+        this.refreshLoaders = refreshLoaders;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.leaseTtl = leaseTtl;
+        this.leaseWait = leaseWait;
+
+        // 갱신 대기열이 가득 차면 이번 갱신은 생략 (다음 조회에서 다시 시도)
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.refreshExecutor = new ThreadPoolExecutor(REFRESH_THREADS, REFRESH_THREADS,
+                60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(REFRESH_QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "cache-refresh-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, cacheName -> {
+            Cache cache = delegate.getCache(cacheName);
+            Predicate<Object> skipCaching = coalescedCaches.get(cacheName);
+            if (cache == null || skipCaching == null) {
+                return cache;
+            }
+            CoalescingCache.RefreshAheadSpec refreshAhead = refreshAheadSpecs.get(cacheName);
+            CacheRefreshLoader refreshLoader = refreshAhead != null ? findRefreshLoader(cacheName) : null;
+            if (refreshAhead != null && refreshLoader == null) {
+                log.warn("No refresh loader for cache {}, refresh-ahead disabled", cacheName);
+                refreshAhead = null;
+            }
+            return new CoalescingCache(cache, skipCaching, stringRedisTemplate, meterRegistry, leaseTtl, leaseWait,
+                    refreshAhead, refreshLoader, refreshExecutor);
+        });
+    }
+
+    private CacheRefreshLoader findRefreshLoader(String cacheName) {
+        return refreshLoaders.orderedStream()
+                .filter(loader -> loader.cacheNames().contains(cacheName))
+                .findFirst()
+                .orElse(null);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    /**
+     * 종료 시 진행 중인 갱신 중단 (@Bean destroy 메서드로 자동 호출)
+     */
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,144 @@
+package com.khu.acc.newsfeed.config;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * 캐시 값 바이너리 직렬화 (Smile + 선택적 LZ4 압축)
+ * <p>
+ * 캐시마다 값 타입을 지정해 클래스명/타입 메타데이터 없이 저장한다.
+ * Smile 은 반복되는 필드명과 짧은 문자열 값을 백 레퍼런스로 한 번만 기록하므로 목록 값(피드 페이지 등)에서 특히 작아진다.
+ * 직렬화 결과가 임계값 이상이면 LZ4 로 압축한다.
+ * <p>
+ * 형식: [형식 1바이트][LZ4 인 경우 원본 길이 4바이트][본문]
+ * 알 수 없는 형식(이전 JSON 값 등)은 null 로 읽어 캐시 미스로 처리한다.
+ */
+@Slf4j
+public class CompactRedisSerializer<T> implements RedisSerializer<T> {
+
+    private static final byte FORMAT_SMILE = 1;
+    private static final byte FORMAT_SMILE_LZ4 = 2;
+
+    private static final ObjectMapper SMILE_MAPPER = createSmileMapper();
+    private static final LZ4Compressor COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+    private static final LZ4FastDecompressor DECOMPRESSOR = LZ4Factory.fastestInstance().fastDecompressor();
+
+    private final ObjectWriter writer;
+    private final ObjectReader reader;
+    // 이 크기(바이트) 이상이면 압축 (0 이하: 압축 안 함)
+    private final int compressionThreshold;
+
+    private CompactRedisSerializer(JavaType type, int compressionThreshold) {
+        this.writer = SMILE_MAPPER.writerFor(type);
+        this.reader = SMILE_MAPPER.readerFor(type);
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    public static <T> CompactRedisSerializer<T> of(Class<T> type, int compressionThreshold) {
+        return new CompactRedisSerializer<>(SMILE_MAPPER.constructType(type), compressionThreshold);
+    }
+
+    /**
+     * 제네릭 타입용 (예: CursorPage&lt;PostResponse&gt;)
+     */
+    public static <T> CompactRedisSerializer<T> of(Class<?> rawType, Class<?> parameterType, int compressionThreshold) {
+        return new CompactRedisSerializer<>(
+                SMILE_MAPPER.getTypeFactory().constructParametricType(rawType, parameterType), compressionThreshold);
+    }
+
+    /**
+     * 미리 갱신 캐시용 (CacheEnvelope&lt;rawType&lt;parameterType&gt;&gt;)
+     */
+    public static <T> CompactRedisSerializer<T> enveloped(Class<?> rawType, Class<?> parameterType,
+                                                          int compressionThreshold) {
+        TypeFactory typeFactory = SMILE_MAPPER.getTypeFactory();
+        JavaType valueType = typeFactory.constructParametricType(rawType, parameterType);
+        return new CompactRedisSerializer<>(
+                typeFactory.constructParametricType(CacheEnvelope.class, valueType), compressionThreshold);
+    }
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        byte[] smile;
+        try {
+            smile = writer.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("Could not write Smile: " + e.getMessage(), e);
+        }
+
+        if (compressionThreshold <= 0 || smile.length < compressionThreshold) {
+            byte[] result = new byte[smile.length + 1];
+            result[0] = FORMAT_SMILE;
+            System.arraycopy(smile, 0, result, 1, smile.length);
+            return result;
+        }
+
+        int maxLength = COMPRESSOR.maxCompressedLength(smile.length);
+        byte[] buffer = new byte[maxLength + 5];
+        int compressedLength = COMPRESSOR.compress(smile, 0, smile.length, buffer, 5, maxLength);
+        ByteBuffer.wrap(buffer, 0, 5).put(FORMAT_SMILE_LZ4).putInt(smile.length);
+
+        byte[] result = new byte[compressedLength + 5];
+        System.arraycopy(buffer, 0, result, 0, result.length);
+        return result;
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        try {
+            switch (bytes[0]) {
+                case FORMAT_SMILE:
+                    return reader.readValue(bytes, 1, bytes.length - 1);
+                case FORMAT_SMILE_LZ4:
+                    int originalLength = ByteBuffer.wrap(bytes, 1, 4).getInt();
+                    byte[] smile = new byte[originalLength];
+                    DECOMPRESSOR.decompress(bytes, 5, smile, 0, originalLength);
+                    return reader.readValue(smile);
+                default:
+                    log.debug("Ignoring cache value with unknown format byte {}", bytes[0]);
+                    return null;
+            }
+        } catch (IOException e) {
+            throw new SerializationException("Could not read Smile: " + e.getMessage(), e);
+        }
+    }
+
+    private static ObjectMapper createSmileMapper() {
+        SmileFactory smileFactory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+
+        ObjectMapper mapper = new ObjectMapper(smileFactory);
+        mapper.registerModule(new JavaTimeModule());
+        mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        // 필드가 추가/삭제되어도 기존 캐시 값을 읽을 수 있도록
+        mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        return mapper;
+    }
+}
@@ -0,0 +1,46 @@
+package com.khu.acc.newsfeed.config;
+
+import com.khu.acc.newsfeed.service.FeedCacheGenerationService;
+import com.khu.acc.newsfeed.service.NewsFeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * newsFeed/userFeed 캐시 미리 갱신 로더
+ * <p>
+ * 세대 포함 캐시 키({@link FeedCacheGenerationService#parse})에서 사용자와 페이지 크기를 꺼내
+ * 서비스 프록시를 통해 첫 페이지를 다시 조립한다. (갱신마다 별도 트랜잭션)
+ */
+@Component
+@RequiredArgsConstructor
+public class FeedCacheRefreshLoader implements CacheRefreshLoader {
+
+    private static final String INTEREST_SUFFIX_PREFIX = "interests_";
+
+    private final NewsFeedService newsFeedService;
+
+    @Override
+    public Set<String> cacheNames() {
+        return Set.of("newsFeed", "userFeed");
+    }
+
+    @Override
+    public Object load(String cacheName, Object key) {
+        FeedCacheGenerationService.VersionedKey versionedKey = FeedCacheGenerationService.parse(key);
+        if (versionedKey == null) {
+            return null;
+        }
+
+        String suffix = versionedKey.suffix();
+        if ("userFeed".equals(cacheName) && suffix.startsWith(INTEREST_SUFFIX_PREFIX)) {
+            int limit = Integer.parseInt(suffix.substring(INTEREST_SUFFIX_PREFIX.length()));
+            return newsFeedService.recomputeInterestBasedFeed(versionedKey.userId(), limit);
+        }
+        if ("newsFeed".equals(cacheName)) {
+            return newsFeedService.recomputePersonalizedNewsFeed(versionedKey.userId(), Integer.parseInt(suffix));
+        }
+        return null;
+    }
+}
@@ -6,7 +6,15 @@ import com.fasterxml.jackson.annotation.PropertyAccessor;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.khu.acc.newsfeed.dto.CursorPage;
+import com.khu.acc.newsfeed.dto.PostResponse;
+import com.khu.acc.newsfeed.model.User;
+import com.khu.acc.newsfeed.service.FollowService;
+import com.khu.acc.newsfeed.service.NewsFeedService;
+import com.khu.acc.newsfeed.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
@@ -19,13 +27,19 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
 
 @Slf4j
 @Configuration
@@ -44,6 +58,34 @@ public class RedisConfig {
     @Value("${spring.data.redis.database:0}")
     private int database;
 
+    // 타입이 고정된 캐시 값 형식 (smile | json)
+    @Value("${app.cache.codec:smile}")
+    private String cacheCodec;
+
+    // 이 크기(바이트) 이상인 캐시 값은 LZ4 압축 (0 이하: 압축 안 함)
+    @Value("${app.cache.compression-threshold:1024}")
+    private int compressionThreshold;
+
+    // 인스턴스 내 L1 캐시 사용 여부
+    @Value("${app.cache.near.enabled:true}")
+    private boolean nearCacheEnabled;
+
+    // 클러스터 단위 재계산 임대 유지 시간 (로드 최대 소요 시간보다 길게)
+    @Value("${app.cache.coalescing.lease-ttl:5s}")
+    private Duration coalescingLeaseTtl;
+
+    // 임대를 얻지 못한 노드가 캐시가 채워지기를 기다리는 최대 시간
+    @Value("${app.cache.coalescing.lease-wait:2s}")
+    private Duration coalescingLeaseWait;
+
+    // 미리 갱신 캐시의 논리 만료 후 이전 값을 반환하며 갱신하는 시간
+    @Value("${app.cache.refresh-ahead.grace:2m}")
+    private Duration refreshAheadGrace;
+
+    // XFetch 조기 갱신 강도 (클수록 만료 전에 일찍 갱신)
+    @Value("${app.cache.refresh-ahead.beta:1.0}")
+    private double refreshAheadBeta;
+
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
         RedisStandaloneConfiguration config = new RedisStandaloneConfiguration(redisHost, redisPort);
@@ -87,8 +129,66 @@ public class RedisConfig {
         return template;
     }
 
+    /**
+     * Redis pub/sub 리스너 컨테이너 (인스턴스 간 변경 전파용)
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    /**
+     * 애플리케이션 CacheManager
+     * <p>
+     * Redis 캐시 앞에 인스턴스 내 L1 캐시를 두고(설정된 캐시만), 비용이 큰 캐시는 미스 로드를 병합하고 만료 전에 미리 갱신한다.
+     */
+    @Bean
+    @Primary
+    public CacheManager cacheManager(RedisCacheManager redisCacheManager, StringRedisTemplate stringRedisTemplate,
+                                     RedisMessageListenerContainer redisMessageListenerContainer,
+                                     MeterRegistry meterRegistry,
+                                     ObjectProvider<CacheRefreshLoader> refreshLoaders) {
+        CacheManager cacheManager = redisCacheManager;
+
+        if (nearCacheEnabled) {
+            // 캐시별 L1 크기/TTL (자주 읽히고 작은 값 위주, TTL 은 인스턴스 간 무효화 유실 시 최대 불일치 시간)
+            Map<String, TwoTierCacheManager.NearCacheSpec> nearCacheSpecs = new HashMap<>();
+            nearCacheSpecs.put("users", TwoTierCacheManager.NearCacheSpec.of(10_000, Duration.ofSeconds(30)));
+            nearCacheSpecs.put("followingUserIds", TwoTierCacheManager.NearCacheSpec.of(10_000, Duration.ofSeconds(30)));
+            nearCacheSpecs.put("followerUserIds", TwoTierCacheManager.NearCacheSpec.of(5_000, Duration.ofSeconds(30)));
+            nearCacheSpecs.put("followStatus", TwoTierCacheManager.NearCacheSpec.of(50_000, Duration.ofSeconds(30)));
+            nearCacheSpecs.put("followStats", TwoTierCacheManager.NearCacheSpec.of(10_000, Duration.ofSeconds(30)));
+            nearCacheSpecs.put("userStats", TwoTierCacheManager.NearCacheSpec.of(10_000, Duration.ofSeconds(30)));
+            nearCacheSpecs.put("trendingPosts", TwoTierCacheManager.NearCacheSpec.of(100, Duration.ofSeconds(10)));
+            nearCacheSpecs.put("activeUserCount", TwoTierCacheManager.NearCacheSpec.of(10, Duration.ofMinutes(1)));
+
+            log.info("Two-tier cache manager configured with {} near caches", nearCacheSpecs.size());
+            cacheManager = new TwoTierCacheManager(redisCacheManager, nearCacheSpecs, stringRedisTemplate,
+                    redisMessageListenerContainer, meterRegistry);
+        }
+
+        // 미스 로드 병합 대상 캐시 (@Cacheable(sync = true) 와 함께 사용) 와 캐시하지 않을 결과 조건
+        Map<String, Predicate<Object>> coalescedCaches = new HashMap<>();
+        coalescedCaches.put("newsFeed", value -> value instanceof CursorPage<?> page && page.isPartial());
+        coalescedCaches.put("userFeed", value -> value instanceof CursorPage<?> page && page.isPartial());
+        coalescedCaches.put("users", value -> false);
+
+        // 미리 갱신 대상 캐시 (TTL 경계에서 재계산 지연이 응답에 드러나지 않도록, 값은 CacheEnvelope 로 저장)
+        Map<String, CoalescingCache.RefreshAheadSpec> refreshAheadSpecs = new HashMap<>();
+        for (String cacheName : List.of("newsFeed", "userFeed")) {
+            Duration ttl = redisCacheManager.getCacheConfigurations().get(cacheName).getTtl();
+            refreshAheadSpecs.put(cacheName,
+                    new CoalescingCache.RefreshAheadSpec(ttl, refreshAheadGrace, refreshAheadBeta));
+        }
+
+        return new CoalescingCacheManager(cacheManager, coalescedCaches, refreshAheadSpecs, refreshLoaders,
+                stringRedisTemplate, meterRegistry, coalescingLeaseTtl, coalescingLeaseWait);
+    }
+
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
+    public RedisCacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory) {
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofMinutes(30))
                 .serializeKeysWith(org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair
@@ -97,12 +197,13 @@ public class RedisConfig {
                         .fromSerializer(new GenericJackson2JsonRedisSerializer()))
                 .disableCachingNullValues();
 
-        // 캐시별 TTL 설정
+        // 캐시별 TTL/값 형식 설정 (값 타입이 고정된 캐시는 app.cache.codec 에 따라 바이너리 형식 사용)
         Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
 
         // === 기존 캐시 설정 ===
         // 사용자 정보 캐시 (1시간)
-        cacheConfigurations.put("users", config.entryTtl(Duration.ofHours(1)));
+        cacheConfigurations.put("users", withCodec(config.entryTtl(Duration.ofHours(1)),
+                CompactRedisSerializer.of(User.class, compressionThreshold)));
 
         // 포스트 캐시 (30분)
         cacheConfigurations.put("posts", config.entryTtl(Duration.ofMinutes(30)));
@@ -118,45 +219,46 @@ public class RedisConfig {
 
         // === 개인화 피드 관련 캐시 설정 ===
         // 뉴스피드 캐시 (30분) - 가장 중요한 캐시
-        cacheConfigurations.put("newsFeed", config.entryTtl(Duration.ofMinutes(30)));
+        cacheConfigurations.put("newsFeed", withCodec(config.entryTtl(Duration.ofMinutes(30)),
+                CompactRedisSerializer.enveloped(CursorPage.class, PostResponse.class, compressionThreshold)));
 
         // 사용자 개인화 피드 캐시 (30분)
-        cacheConfigurations.put("userFeed", config.entryTtl(Duration.ofMinutes(30)));
-
-        // 개인화 데이터 캐시 (1시간) - 사용자의 관심사, 상호작용 패턴 등
-        cacheConfigurations.put("userPersonalizationData", config.entryTtl(Duration.ofHours(1)));
+        cacheConfigurations.put("userFeed", withCodec(config.entryTtl(Duration.ofMinutes(30)),
+                CompactRedisSerializer.enveloped(CursorPage.class, PostResponse.class, compressionThreshold)));
 
         // 피드 통계 캐시 (1시간)
-        cacheConfigurations.put("userFeedStats", config.entryTtl(Duration.ofHours(1)));
+        cacheConfigurations.put("userFeedStats", withCodec(config.entryTtl(Duration.ofHours(1)),
+                CompactRedisSerializer.of(NewsFeedService.FeedStats.class, compressionThreshold)));
 
         // 사용자 통계 캐시 (1시간)
-        cacheConfigurations.put("userStats", config.entryTtl(Duration.ofHours(1)));
+        cacheConfigurations.put("userStats", withCodec(config.entryTtl(Duration.ofHours(1)),
+                CompactRedisSerializer.of(UserService.UserStats.class, compressionThreshold)));
 
         // === 팔로우 관련 캐시 설정 ===
-        // 팔로잉 목록 캐시 (1시간)
-        cacheConfigurations.put("followings", config.entryTtl(Duration.ofHours(1)));
-
-        // 팔로워 목록 캐시 (1시간)
-        cacheConfigurations.put("followers", config.entryTtl(Duration.ofHours(1)));
-
         // 팔로우 상태 캐시 (2시간) - 자주 바뀌지 않음
-        cacheConfigurations.put("followStatus", config.entryTtl(Duration.ofHours(2)));
+        cacheConfigurations.put("followStatus", withCodec(config.entryTtl(Duration.ofHours(2)),
+                CompactRedisSerializer.of(Boolean.class, compressionThreshold)));
 
         // 팔로우 통계 캐시 (1시간)
-        cacheConfigurations.put("followStats", config.entryTtl(Duration.ofHours(1)));
+        cacheConfigurations.put("followStats", withCodec(config.entryTtl(Duration.ofHours(1)),
+                CompactRedisSerializer.of(FollowService.FollowStats.class, compressionThreshold)));
 
         // 팔로잉 사용자 ID 목록 캐시 (1시간) - 피드 생성에 중요
-        cacheConfigurations.put("followingUserIds", config.entryTtl(Duration.ofHours(1)));
+        cacheConfigurations.put("followingUserIds", withCodec(config.entryTtl(Duration.ofHours(1)),
+                CompactRedisSerializer.of(List.class, String.class, compressionThreshold)));
 
         // 팔로워 사용자 ID 목록 캐시 (1시간)
-        cacheConfigurations.put("followerUserIds", config.entryTtl(Duration.ofHours(1)));
+        cacheConfigurations.put("followerUserIds", withCodec(config.entryTtl(Duration.ofHours(1)),
+                CompactRedisSerializer.of(List.class, String.class, compressionThreshold)));
 
         // 추천 사용자 캐시 (6시간) - 자주 바뀌지 않음
-        cacheConfigurations.put("recommendedUsers", config.entryTtl(Duration.ofHours(6)));
+        cacheConfigurations.put("recommendedUsers", withCodec(config.entryTtl(Duration.ofHours(6)),
+                CompactRedisSerializer.of(List.class, String.class, compressionThreshold)));
 
         // === 전역 통계 캐시 설정 ===
         // 활성 사용자 수 (12시간)
-        cacheConfigurations.put("activeUserCount", config.entryTtl(Duration.ofHours(12)));
+        cacheConfigurations.put("activeUserCount", withCodec(config.entryTtl(Duration.ofHours(12)),
+                CompactRedisSerializer.of(Long.class, compressionThreshold)));
 
         // === 단기 캐시 설정 ===
         // 실시간 알림 관련 (5분)
@@ -172,4 +274,14 @@ public class RedisConfig {
                 .withInitialCacheConfigurations(cacheConfigurations)
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 캐시 값 형식 선택 (smile: 타입 고정 바이너리, json: 기본 GenericJackson2Json)
+     */
+    private RedisCacheConfiguration withCodec(RedisCacheConfiguration config, RedisSerializer<?> codec) {
+        if (!"smile".equalsIgnoreCase(cacheCodec)) {
+            return config;
+        }
+        return config.serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(codec));
+    }
+}
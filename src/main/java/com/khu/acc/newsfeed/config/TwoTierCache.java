@@ -0,0 +1,180 @@
+package com.khu.acc.newsfeed.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+
+/**
+ * 2단계 캐시 (L1: 인스턴스 내 Caffeine, L2: Redis)
+ * <p>
+ * 조회는 L1 → L2 순서로 하고, L2 에서 찾은 값은 L1 에 채운다.
+ * 변경(put/evict/clear)은 L2 에 먼저 반영한 뒤 무효화 메시지를 발행해 다른 인스턴스의 L1 에서도 제거한다.
+ * L1 값은 인스턴스 안에서 공유되므로 호출자가 수정하지 않아야 한다.
+ */
+public class TwoTierCache implements org.springframework.cache.Cache {
+
+    private final String name;
+    private final org.springframework.cache.Cache redisCache;
+    private final Cache<String, Object> localCache;
+    // (캐시 이름, 키) 무효화 발행 (키가 null 이면 전체 무효화)
+    private final BiConsumer<String, String> invalidationPublisher;
+
+    private final Counter l1Hits;
+    private final Counter l1Misses;
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+
+    public TwoTierCache(org.springframework.cache.Cache redisCache, long maximumSize, Duration ttl,
+                        BiConsumer<String, String> invalidationPublisher, MeterRegistry meterRegistry) {
+        this.name = redisCache.getName();
+        this.redisCache = redisCache;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.invalidationPublisher = invalidationPublisher;
+
+        this.l1Hits = tierCounter(meterRegistry, "l1", "hit");
+        this.l1Misses = tierCounter(meterRegistry, "l1", "miss");
+        this.l2Hits = tierCounter(meterRegistry, "l2", "hit");
+        this.l2Misses = tierCounter(meterRegistry, "l2", "miss");
+        meterRegistry.gaugeMapSize("cache.tier.l1.size", Tags.of("cache", name), localCache.asMap());
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return redisCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        Object value = localCache.getIfPresent(localKey);
+        if (value != null) {
+            l1Hits.increment();
+            return new SimpleValueWrapper(value);
+        }
+        l1Misses.increment();
+
+        ValueWrapper wrapper = redisCache.get(key);
+        if (wrapper != null && wrapper.get() != null) {
+            l2Hits.increment();
+            localCache.put(localKey, wrapper.get());
+        } else {
+            l2Misses.increment();
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+
+        T value = redisCache.get(key, valueLoader);
+        if (value != null) {
+            localCache.put(localKey(key), value);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        redisCache.put(key, value);
+        String localKey = localKey(key);
+        // 다른 인스턴스의 이전 값 제거 후 로컬에 새 값 반영
+        invalidationPublisher.accept(name, localKey);
+        if (value != null) {
+            localCache.put(localKey, value);
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        redisCache.evict(key);
+        String localKey = localKey(key);
+        localCache.invalidate(localKey);
+        invalidationPublisher.accept(name, localKey);
+    }
+
+    @Override
+    public void clear() {
+        redisCache.clear();
+        localCache.invalidateAll();
+        invalidationPublisher.accept(name, null);
+    }
+
+    /**
+     * L1 에 있는 키만 일괄 조회 (일괄 조회 경로에서 Redis MGET 전에 사용)
+     */
+    public Map<String, Object> getAllPresentLocal(Collection<String> keys) {
+        Map<String, Object> present = localCache.getAllPresent(keys);
+        l1Hits.increment(present.size());
+        l1Misses.increment(keys.size() - present.size());
+        return present;
+    }
+
+    /**
+     * Redis 에서 읽었거나 Redis 에 채운 값을 L1 에만 반영 (get 의 L2 적중과 같이 무효화는 발행하지 않음)
+     */
+    public void putAllLocal(Map<String, ?> values) {
+        values.forEach((key, value) -> {
+            if (value != null) {
+                localCache.put(key, value);
+            }
+        });
+    }
+
+    /**
+     * 다른 인스턴스에서 받은 무효화 메시지 반영 (L1 만 제거)
+     */
+    void invalidateLocal(String localKey) {
+        if (localKey == null) {
+            localCache.invalidateAll();
+        } else {
+            localCache.invalidate(localKey);
+        }
+    }
+
+    private static String localKey(Object key) {
+        // RedisCache 와 같이 문자열 키 기준으로 구분
+        return String.valueOf(key);
+    }
+
+    private Counter tierCounter(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("cache.tier.requests")
+                .description("Two-tier cache lookups by tier and result")
+                .tag("cache", name)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,101 @@
+package com.khu.acc.newsfeed.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 2단계 CacheManager (Caffeine L1 + Redis L2)
+ * <p>
+ * L1 설정이 있는 캐시만 {@link TwoTierCache} 로 감싸고, 나머지는 Redis 캐시를 그대로 반환한다.
+ * 인스턴스 간 L1 무효화는 Redis pub/sub 채널로 전파한다. (자기 인스턴스가 보낸 메시지는 무시)
+ */
+@Slf4j
+public class TwoTierCacheManager implements CacheManager {
+
+    private static final String INVALIDATION_CHANNEL = "cache:invalidation";
+    // 메시지 형식: {instanceId}|{cacheName}|{key} (key 가 비어 있으면 전체 무효화)
+    private static final String SEPARATOR = "|";
+
+    private final RedisCacheManager redisCacheManager;
+    private final Map<String, NearCacheSpec> nearCacheSpecs;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * 캐시별 L1 설정
+     */
+    public record NearCacheSpec(long maximumSize, Duration ttl) {
+
+        public static NearCacheSpec of(long maximumSize, Duration ttl) {
+            return new NearCacheSpec(maximumSize, ttl);
+        }
+    }
+
+    public TwoTierCacheManager(RedisCacheManager redisCacheManager, Map<String, NearCacheSpec> nearCacheSpecs,
+                               StringRedisTemplate stringRedisTemplate,
+                               RedisMessageListenerContainer listenerContainer, MeterRegistry meterRegistry) {
+        this.redisCacheManager = redisCacheManager;
+        this.nearCacheSpecs = nearCacheSpecs;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.meterRegistry = meterRegistry;
+
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onInvalidation(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, cacheName -> {
+            Cache redisCache = redisCacheManager.getCache(cacheName);
+            NearCacheSpec spec = nearCacheSpecs.get(cacheName);
+            if (redisCache == null || spec == null) {
+                return redisCache;
+            }
+            return new TwoTierCache(redisCache, spec.maximumSize(), spec.ttl(), this::publishInvalidation, meterRegistry);
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return redisCacheManager.getCacheNames();
+    }
+
+    private void publishInvalidation(String cacheName, String key) {
+        String message = instanceId + SEPARATOR + cacheName + SEPARATOR + (key != null ? key : "");
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+        } catch (Exception e) {
+            // 전파 실패 시 다른 인스턴스의 L1 은 TTL 로 만료
+            log.warn("Failed to publish cache invalidation for {}::{}", cacheName, key, e);
+        }
+    }
+
+    private void onInvalidation(String message) {
+        String[] parts = message.split("\\|", 3);
+        if (parts.length < 3 || instanceId.equals(parts[0])) {
+            return;
+        }
+
+        Cache cache = caches.get(parts[1]);
+        if (cache instanceof TwoTierCache twoTierCache) {
+            twoTierCache.invalidateLocal(parts[2].isEmpty() ? null : parts[2]);
+            meterRegistry.counter("cache.tier.invalidations", "cache", parts[1]).increment();
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.khu.acc.newsfeed.dto.CommentResponse;
 import com.khu.acc.newsfeed.dto.CommentUpdateRequest;
 import com.khu.acc.newsfeed.model.Comment;
 import com.khu.acc.newsfeed.service.CommentService;
+import com.khu.acc.newsfeed.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -31,13 +32,17 @@ import java.util.Optional;
 public class CommentController {
 
     private final CommentService commentService;
+    private final UserService userService;
 
     @PostMapping
     @Operation(summary = "댓글 작성", description = "포스트에 댓글을 작성합니다.")
     public ResponseEntity<ApiResponse<CommentResponse>> createComment(
             @Valid @RequestBody CommentCreateRequest request,
             @AuthenticationPrincipal UserDetails userDetails) {
-        return ResponseEntity.ok(ApiResponse.<CommentResponse>builder().build());
+        String userId = extractUserIdFromUserDetails(userDetails);
+        Comment comment = commentService.createComment(userId, request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Comment created successfully", CommentResponse.from(comment)));
     }
 
     @GetMapping("/{commentId}")
@@ -80,10 +85,14 @@ public class CommentController {
     public ResponseEntity<ApiResponse<Void>> deleteComment(
             @PathVariable String commentId,
             @AuthenticationPrincipal UserDetails userDetails) {
-        return ResponseEntity.ok(ApiResponse.<Void>builder().build());
+        String userId = extractUserIdFromUserDetails(userDetails);
+        commentService.deleteComment(userId, commentId);
+        return ResponseEntity.ok(ApiResponse.success("Comment deleted successfully", null));
     }
 
     private String extractUserIdFromUserDetails(UserDetails userDetails) {
-        return userDetails.getUsername(); // 임시로 username을 사용
+        return userService.findByUsername(userDetails.getUsername())
+                .map(user -> user.getUserId())
+                .orElseThrow(() -> new IllegalArgumentException("User not found: " + userDetails.getUsername()));
     }
 }
\ No newline at end of file
@@ -1,24 +1,31 @@
 package com.khu.acc.newsfeed.service;
 
+import com.khu.acc.newsfeed.dto.CursorPage;
 import com.khu.acc.newsfeed.dto.FollowResponse;
-import com.khu.acc.newsfeed.model.Follow;
+import com.khu.acc.newsfeed.dto.UserResponse;
+import com.khu.acc.newsfeed.event.FollowEvent;
+import com.khu.acc.newsfeed.model.FollowEdge;
 import com.khu.acc.newsfeed.model.User;
-import com.khu.acc.newsfeed.repository.FollowRepository;
+import com.khu.acc.newsfeed.repository.FollowEdgeRepository;
 import com.khu.acc.newsfeed.repository.UserRepository;
 import com.khu.acc.newsfeed.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -27,9 +34,17 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class FollowService {
 
-    private final FollowRepository followRepository;
+    private final FollowEdgeRepository followEdgeRepository;
     private final UserRepository userRepository;
     private final NewsFeedService newsFeedService;
+    private final TimelineService timelineService;
+    private final UserHydrationService userHydrationService;
+    private final BatchCacheService batchCacheService;
+    private final CounterService counterService;
+    private final MembershipFilterService membershipFilterService;
+    private final FollowGraphService followGraphService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
 
     /**
      * 사용자 팔로우
@@ -40,11 +55,6 @@ public class FollowService {
             throw new IllegalArgumentException("Cannot follow yourself");
         }
 
-        // 이미 팔로우 중인지 확인
-        if (followRepository.existsByFollowerIdAndFolloweeId(followerId, followeeId)) {
-            throw new IllegalStateException("Already following this user");
-        }
-
         // 팔로우할 사용자가 존재하는지 확인
         User followee = userRepository.findById(followeeId)
                 .orElseThrow(() -> ResourceNotFoundException.user(followeeId));
@@ -52,15 +62,11 @@ public class FollowService {
         User follower = userRepository.findById(followerId)
                 .orElseThrow(() -> ResourceNotFoundException.user(followerId));
 
-        // 팔로우 관계 생성
-        Follow follow = Follow.builder()
-                .followId(generateFollowId())
-                .followerId(followerId)
-                .followeeId(followeeId)
-                .createdAt(Instant.now())
-                .build();
-
-        followRepository.save(follow);
+        // 팔로우 관계 생성 (이미 팔로우 중이면 조건부 PutItem 이 실패)
+        FollowEdge edge = FollowEdge.of(followerId, followeeId, Instant.now());
+        if (!followEdgeRepository.create(edge)) {
+            throw new IllegalStateException("Already following this user");
+        }
 
         // 사용자 통계 업데이트
         updateUserFollowCounts(followerId, followeeId, true);
@@ -68,19 +74,20 @@ public class FollowService {
         // 캐시 무효화
         evictFollowCaches(followerId, followeeId);
 
+        eventPublisher.publishEvent(FollowEvent.followed(followerId, followeeId));
+
         log.info("User {} started following user {}", followerId, followeeId);
 
-        return FollowResponse.from(follow);
+        return FollowResponse.from(edge);
     }
 
     /**
      * 사용자 언팔로우
      */
     public void unfollowUser(String followerId, String followeeId) {
-        Follow follow = followRepository.findByFollowerIdAndFolloweeId(followerId, followeeId)
-                .orElseThrow(() -> new IllegalStateException("Not following this user"));
-
-        followRepository.delete(follow);
+        if (!followEdgeRepository.delete(followerId, followeeId)) {
+            throw new IllegalStateException("Not following this user");
+        }
 
         // 사용자 통계 업데이트
         updateUserFollowCounts(followerId, followeeId, false);
@@ -88,49 +95,104 @@ public class FollowService {
         // 캐시 무효화
         evictFollowCaches(followerId, followeeId);
 
+        eventPublisher.publishEvent(FollowEvent.unfollowed(followerId, followeeId));
+
         log.info("User {} stopped following user {}", followerId, followeeId);
     }
 
     /**
-     * 팔로잉 목록 조회
+     * 팔로잉 목록 조회 (FollowEdges Query 커서, 페이지당 Query 1회)
      */
-    @Cacheable(value = "followings", key = "#userId + '_' + #pageable.pageNumber")
-    public Page<FollowResponse> getFollowing(String userId, Pageable pageable) {
-        Page<Follow> follows = followRepository.findByFollowerIdOrderByCreatedAtDesc(userId, pageable);
-
-        return follows.map(follow -> {
-            FollowResponse response = FollowResponse.from(follow);
-            // 팔로우된 사용자 정보 추가
-            userRepository.findById(follow.getFolloweeId())
-                    .ifPresent(user -> response.setFollowee(
-                            com.khu.acc.newsfeed.dto.UserResponse.from(user)));
-            return response;
-        });
+    public CursorPage<FollowResponse> getFollowing(String userId, String cursor, int limit) {
+        CursorPage<FollowEdge> follows = followEdgeRepository.findFollowing(userId, limit, cursor);
+
+        // 팔로우된 사용자 정보 추가 (일괄 조회)
+        Map<String, UserResponse> users = userHydrationService.resolve(
+                follows.getItems().stream().map(FollowEdge::getFolloweeId).collect(Collectors.toList()));
+
+        List<FollowResponse> responses = follows.getItems().stream()
+                .map(follow -> {
+                    FollowResponse response = FollowResponse.from(follow);
+                    response.setFollowee(users.get(follow.getFolloweeId()));
+                    return response;
+                })
+                .collect(Collectors.toList());
+        return CursorPage.of(responses, follows.getNextCursor());
     }
 
     /**
-     * 팔로워 목록 조회
+     * 팔로워 목록 조회 (FolloweeIndex Query 커서, 최신 팔로우 순)
      */
-    @Cacheable(value = "followers", key = "#userId + '_' + #pageable.pageNumber")
-    public Page<FollowResponse> getFollowers(String userId, Pageable pageable) {
-        Page<Follow> follows = followRepository.findByFolloweeIdOrderByCreatedAtDesc(userId, pageable);
-
-        return follows.map(follow -> {
-            FollowResponse response = FollowResponse.from(follow);
-            // 팔로워 사용자 정보 추가
-            userRepository.findById(follow.getFollowerId())
-                    .ifPresent(user -> response.setFollower(
-                            com.khu.acc.newsfeed.dto.UserResponse.from(user)));
-            return response;
-        });
+    public CursorPage<FollowResponse> getFollowers(String userId, String cursor, int limit) {
+        CursorPage<FollowEdge> follows = followEdgeRepository.findFollowers(userId, limit, cursor);
+
+        // 팔로워 사용자 정보 추가 (일괄 조회)
+        Map<String, UserResponse> users = userHydrationService.resolve(
+                follows.getItems().stream().map(FollowEdge::getFollowerId).collect(Collectors.toList()));
+
+        List<FollowResponse> responses = follows.getItems().stream()
+                .map(follow -> {
+                    FollowResponse response = FollowResponse.from(follow);
+                    response.setFollower(users.get(follow.getFollowerId()));
+                    return response;
+                })
+                .collect(Collectors.toList());
+        return CursorPage.of(responses, follows.getNextCursor());
     }
 
     /**
-     * 팔로우 상태 확인
+     * 팔로우 상태 확인 (필터가 음성이면 캐시/DB 조회 생략)
      */
-    @Cacheable(value = "followStatus", key = "#followerId + '_' + #followeeId")
     public boolean isFollowing(String followerId, String followeeId) {
-        return followRepository.existsByFollowerIdAndFolloweeId(followerId, followeeId);
+        return getFollowStatuses(followerId, List.of(followeeId)).getOrDefault(followeeId, false);
+    }
+
+    /**
+     * 여러 사용자에 대한 팔로우 상태 일괄 확인
+     * <p>
+     * 필터에서 확실히 음성인 대상은 바로 false, 나머지는 "followStatus" 캐시 일괄 조회 후
+     * 미스만 GetItem(1개) 또는 BatchGetItem(100개 단위)으로 조회한다.
+     */
+    public Map<String, Boolean> getFollowStatuses(String followerId, Collection<String> followeeIds) {
+        Map<String, String> cacheKeys = followeeIds.stream()
+                .distinct()
+                .collect(Collectors.toMap(followeeId -> followerId + "_" + followeeId, followeeId -> followeeId));
+        List<String> candidateKeys = cacheKeys.entrySet().stream()
+                .filter(entry -> membershipFilterService.mightFollow(followerId, entry.getValue()))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        Map<String, Boolean> cached = batchCacheService.getAll("followStatus", candidateKeys, Boolean.class);
+
+        List<String> misses = candidateKeys.stream()
+                .filter(cacheKey -> !cached.containsKey(cacheKey))
+                .map(cacheKeys::get)
+                .collect(Collectors.toList());
+        Set<String> followed = new HashSet<>();
+        if (misses.size() == 1) {
+            // 단건 확인은 GetItem
+            if (followEdgeRepository.exists(followerId, misses.get(0))) {
+                followed.add(misses.get(0));
+            }
+            misses = List.of();
+        }
+        for (int from = 0; from < misses.size(); from += FollowEdgeRepository.BATCH_CHECK_MAX_TARGETS) {
+            followed.addAll(followEdgeRepository.findFollowedAmong(followerId, misses.subList(from,
+                    Math.min(misses.size(), from + FollowEdgeRepository.BATCH_CHECK_MAX_TARGETS))));
+        }
+
+        Map<String, Boolean> statuses = new HashMap<>();
+        Map<String, Boolean> loaded = new HashMap<>();
+        cacheKeys.forEach((cacheKey, followeeId) -> statuses.put(followeeId,
+                membershipFilterService.checkFollow(followerId, followeeId, () -> {
+                    Boolean status = cached.get(cacheKey);
+                    if (status == null) {
+                        status = followed.contains(followeeId);
+                        loaded.put(cacheKey, status);
+                    }
+                    return status;
+                })));
+        batchCacheService.putAll("followStatus", loaded);
+        return statuses;
     }
 
     /**
@@ -138,8 +200,8 @@ public class FollowService {
      */
     @Cacheable(value = "followStats", key = "#userId")
     public FollowStats getFollowStats(String userId) {
-        Long followersCount = followRepository.countByFolloweeId(userId);
-        Long followingCount = followRepository.countByFollowerId(userId);
+        Long followersCount = followEdgeRepository.countFollowers(userId);
+        Long followingCount = followEdgeRepository.countFollowing(userId);
 
         return new FollowStats(followersCount, followingCount);
     }
@@ -149,10 +211,7 @@ public class FollowService {
      */
     @Cacheable(value = "followingUserIds", key = "#userId")
     public List<String> getFollowingUserIds(String userId) {
-        return followRepository.findByFollowerIdOrderByCreatedAtDesc(userId)
-                .stream()
-                .map(Follow::getFolloweeId)
-                .collect(Collectors.toList());
+        return followEdgeRepository.findFollowingIds(userId);
     }
 
     /**
@@ -160,10 +219,7 @@ public class FollowService {
      */
     @Cacheable(value = "followerUserIds", key = "#userId")
     public List<String> getFollowerUserIds(String userId) {
-        return followRepository.findByFolloweeIdOrderByCreatedAtDesc(userId)
-                .stream()
-                .map(Follow::getFollowerId)
-                .collect(Collectors.toList());
+        return followEdgeRepository.findFollowerIds(userId);
     }
 
     /**
@@ -174,16 +230,24 @@ public class FollowService {
     }
 
     /**
-     * 추천 팔로우 사용자 목록 (간단한 로직)
+     * 추천 팔로우 사용자 목록 (공통 팔로잉이 많은 순)
      */
     @Cacheable(value = "recommendedUsers", key = "#userId")
     public List<String> getRecommendedUsers(String userId, int limit) {
-        // 팔로잉하는 사용자들의 팔로잉 목록에서 추천
+        return followGraphService.recommend(userId, limit)
+                .orElseGet(() -> recommendFromFollowings(userId, limit));
+    }
+
+    /**
+     * 팔로우 그래프 준비 전 추천 (팔로잉하는 사용자들의 팔로잉 목록을 일괄 조회)
+     */
+    private List<String> recommendFromFollowings(String userId, int limit) {
         List<String> followingIds = getFollowingUserIds(userId);
-        List<String> currentFollowingIds = getFollowingUserIds(userId);
+        Set<String> currentFollowingIds = new HashSet<>(followingIds);
+        Map<String, List<String>> followingsOfFollowings = getFollowingUserIds(followingIds);
 
         return followingIds.stream()
-                .flatMap(followingId -> getFollowingUserIds(followingId).stream())
+                .flatMap(followingId -> followingsOfFollowings.getOrDefault(followingId, List.of()).stream())
                 .filter(recommendedId -> !recommendedId.equals(userId)) // 자기 자신 제외
                 .filter(recommendedId -> !currentFollowingIds.contains(recommendedId)) // 이미 팔로우 중인 사용자 제외
                 .distinct()
@@ -191,61 +255,64 @@ public class FollowService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 여러 사용자의 팔로잉 ID 목록 일괄 조회 ("followingUserIds" 캐시 일괄 조회 후 미스만 조회)
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, List<String>> getFollowingUserIds(Collection<String> userIds) {
+        Map<String, List<String>> followings = new HashMap<>();
+        batchCacheService.getAll("followingUserIds", userIds, List.class)
+                .forEach((userId, ids) -> followings.put(userId, (List<String>) ids));
+
+        Map<String, List<String>> loaded = new HashMap<>();
+        userIds.stream()
+                .filter(userId -> !followings.containsKey(userId))
+                .distinct()
+                .forEach(userId -> loaded.put(userId, followEdgeRepository.findFollowingIds(userId)));
+        batchCacheService.putAll("followingUserIds", loaded);
+
+        followings.putAll(loaded);
+        return followings;
+    }
+
     /**
      * 사용자 팔로우 수 업데이트
      */
     private void updateUserFollowCounts(String followerId, String followeeId, boolean isFollow) {
+        long delta = isFollow ? 1 : -1;
         // 팔로워 수 업데이트 (팔로우 받는 사용자)
-        userRepository.findById(followeeId).ifPresent(followee -> {
-            if (isFollow) {
-                followee.incrementFollowersCount();
-            } else {
-                followee.decrementFollowersCount();
-            }
-            userRepository.save(followee);
-        });
-
+        counterService.add(CounterService.Counter.USER_FOLLOWERS, followeeId, delta);
         // 팔로잉 수 업데이트 (팔로우 하는 사용자)
-        userRepository.findById(followerId).ifPresent(follower -> {
-            if (isFollow) {
-                follower.incrementFollowingCount();
-            } else {
-                follower.decrementFollowingCount();
-            }
-            userRepository.save(follower);
-        });
+        counterService.add(CounterService.Counter.USER_FOLLOWING, followerId, delta);
     }
 
     /**
-     * 팔로우 관련 캐시 무효화
+     * 팔로우 관련 캐시 무효화 (바뀐 관계의 팔로우 상태와 양쪽 사용자의 목록/통계 키만 제거)
+     * <p>
+     * 같은 빈 안의 호출은 프록시를 거치지 않아 {@code @CacheEvict} 가 동작하지 않으므로 CacheManager 로 직접 제거한다.
      */
-    @CacheEvict(value = {"followings", "followers", "followStatus", "followStats", "followingUserIds", "followerUserIds", "recommendedUsers"},
-            key = "#followerId")
-    private void evictFollowerCaches(String followerId) {
-        // 팔로워의 캐시 무효화
-    }
-
-    @CacheEvict(value = {"followings", "followers", "followStatus", "followStats", "followingUserIds", "followerUserIds", "recommendedUsers"},
-            key = "#followeeId")
-    private void evictFolloweeCaches(String followeeId) {
-        // 팔로우 받는 사용자의 캐시 무효화
-    }
-
     private void evictFollowCaches(String followerId, String followeeId) {
-        evictFollowerCaches(followerId);
-        evictFolloweeCaches(followeeId);
+        evict("followStatus", followerId + "_" + followeeId);
+        evict("followingUserIds", followerId);
+        evict("followerUserIds", followeeId);
+        evict("followStats", followerId);
+        evict("followStats", followeeId);
+        evict("recommendedUsers", followerId);
 
         // 뉴스 피드 캐시도 무효화
         if (newsFeedService != null) {
             newsFeedService.invalidateUserFeedCache(followerId);
         }
+
+        // 팔로잉 목록이 바뀌었으므로 다음 조회 시 타임라인 재구성
+        timelineService.invalidateTimeline(followerId);
     }
 
-    /**
-     * Follow ID 생성
-     */
-    private String generateFollowId() {
-        return "follow_" + UUID.randomUUID().toString().replace("-", "");
+    private void evict(String cacheName, String key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
     }
 
     /**
@@ -3,6 +3,7 @@ package com.khu.acc.newsfeed.controller;
 import com.khu.acc.newsfeed.dto.ApiResponse;
 import com.khu.acc.newsfeed.dto.LikeResponse;
 import com.khu.acc.newsfeed.service.LikeService;
+import com.khu.acc.newsfeed.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -24,22 +25,28 @@ import org.springframework.web.bind.annotation.*;
 public class LikeController {
 
     private final LikeService likeService;
+    private final UserService userService;
 
     @PostMapping("/posts/{postId}")
-    @Operation(summary = "포스트 좋아요", description = "포스트에 좋아요를 누릅니다.")
+    @Operation(summary = "포스트 좋아요", description = "포스트에 좋아요를 누릅니다. 비동기로 반영되며 요청이 몰리면 429 를 반환합니다.")
     public ResponseEntity<ApiResponse<LikeResponse>> likePost(
             @PathVariable String postId,
             @AuthenticationPrincipal UserDetails userDetails) {
-        return ResponseEntity.ok(ApiResponse.<LikeResponse>builder().build());
-
+        String userId = extractUserIdFromUserDetails(userDetails);
+        LikeResponse like = likeService.likePost(userId, postId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("Post like accepted", like));
     }
 
     @DeleteMapping("/posts/{postId}")
-    @Operation(summary = "포스트 좋아요 취소", description = "포스트의 좋아요를 취소합니다.")
+    @Operation(summary = "포스트 좋아요 취소", description = "포스트의 좋아요를 취소합니다. 비동기로 반영되며 요청이 몰리면 429 를 반환합니다.")
     public ResponseEntity<ApiResponse<Void>> unlikePost(
             @PathVariable String postId,
             @AuthenticationPrincipal UserDetails userDetails) {
-        return ResponseEntity.ok(ApiResponse.<Void>builder().build());
+        String userId = extractUserIdFromUserDetails(userDetails);
+        likeService.unlikePost(userId, postId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("Post unlike accepted", null));
     }
 
     @GetMapping("/posts/{postId}")
@@ -55,7 +62,8 @@ public class LikeController {
     public ResponseEntity<ApiResponse<Boolean>> hasLiked(
             @PathVariable String postId,
             @AuthenticationPrincipal UserDetails userDetails) {
-        return ResponseEntity.ok(ApiResponse.<Boolean>builder().build());
+        String userId = extractUserIdFromUserDetails(userDetails);
+        return ResponseEntity.ok(ApiResponse.success("Like status retrieved", likeService.hasLiked(userId, postId)));
     }
 
     @GetMapping("/posts/{postId}/count")
@@ -71,4 +79,13 @@ public class LikeController {
             @PageableDefault(size = 20) Pageable pageable) {
         return ResponseEntity.ok(ApiResponse.<Page<LikeResponse>>builder().build());
     }
-}
\ No newline at end of file
+
+    /**
+     * UserDetails에서 사용자 ID 추출
+     */
+    private String extractUserIdFromUserDetails(UserDetails userDetails) {
+        return userService.findByUsername(userDetails.getUsername())
+                .map(user -> user.getUserId())
+                .orElseThrow(() -> new IllegalArgumentException("User not found: " + userDetails.getUsername()));
+    }
+}
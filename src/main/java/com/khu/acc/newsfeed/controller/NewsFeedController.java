@@ -1,7 +1,9 @@
 package com.khu.acc.newsfeed.controller;
 
 import com.khu.acc.newsfeed.dto.ApiResponse;
+import com.khu.acc.newsfeed.dto.CursorPage;
 import com.khu.acc.newsfeed.dto.PostResponse;
+import com.khu.acc.newsfeed.service.FanOutPolicy;
 import com.khu.acc.newsfeed.service.NewsFeedService;
 import com.khu.acc.newsfeed.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -9,9 +11,8 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
@@ -27,23 +28,25 @@ public class NewsFeedController {
 
     private final NewsFeedService newsFeedService;
     private final UserService userService;
+    private final FanOutPolicy fanOutPolicy;
 
     @GetMapping
     @Operation(summary = "개인화 뉴스 피드 조회",
             description = "사용자의 팔로잉, 관심사, 활동 패턴을 기반으로 개인화된 뉴스 피드를 조회합니다.")
     public ResponseEntity<ApiResponse<List<PostResponse>>> getNewsFeed(
             @AuthenticationPrincipal UserDetails userDetails,
-            @PageableDefault(size = 20) Pageable pageable) {
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
 
         try {
             String userId = extractUserIdFromUserDetails(userDetails);
             log.info("Getting personalized news feed for user: {}", userId);
 
-            List<PostResponse> posts = newsFeedService.getPersonalizedNewsFeed(userId, pageable);
+            CursorPage<PostResponse> page = newsFeedService.getPersonalizedNewsFeed(userId, cursor, size);
 
-            return ResponseEntity.ok(ApiResponse.success(
-                    String.format("개인화 피드 조회 성공 (%d개 포스트)", posts.size()),
-                    posts));
+            return ResponseEntity.ok(ApiResponse.successPage(
+                    String.format("개인화 피드 조회 성공 (%d개 포스트)", page.getItems().size()),
+                    page));
 
         } catch (Exception e) {
             log.error("Error getting news feed", e);
@@ -56,17 +59,18 @@ public class NewsFeedController {
             description = "사용자의 관심사(interests) 태그를 기반으로 개인화된 피드를 조회합니다.")
     public ResponseEntity<ApiResponse<List<PostResponse>>> getPersonalizedFeed(
             @AuthenticationPrincipal UserDetails userDetails,
-            @PageableDefault(size = 20) Pageable pageable) {
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
 
         try {
             String userId = extractUserIdFromUserDetails(userDetails);
             log.info("Getting interest-based feed for user: {}", userId);
 
-            List<PostResponse> posts = newsFeedService.getInterestBasedFeed(userId, pageable);
+            CursorPage<PostResponse> page = newsFeedService.getInterestBasedFeed(userId, cursor, size);
 
-            return ResponseEntity.ok(ApiResponse.success(
-                    String.format("관심사 기반 피드 조회 성공 (%d개 포스트)", posts.size()),
-                    posts));
+            return ResponseEntity.ok(ApiResponse.successPage(
+                    String.format("관심사 기반 피드 조회 성공 (%d개 포스트)", page.getItems().size()),
+                    page));
 
         } catch (Exception e) {
             log.error("Error getting personalized feed", e);
@@ -131,6 +135,24 @@ public class NewsFeedController {
         }
     }
 
+    @PutMapping("/fanout-threshold")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "fan-out 임계값 변경",
+            description = "팔로워 수가 임계값 이상인 작성자는 fan-out 대신 조회 시점에 병합합니다. 0 이하면 비활성화됩니다. (관리자용)")
+    public ResponseEntity<ApiResponse<Long>> updateFanOutThreshold(@RequestParam long threshold) {
+
+        try {
+            log.info("Updating fan-out threshold to {}", threshold);
+            fanOutPolicy.updateThreshold(threshold);
+
+            return ResponseEntity.ok(ApiResponse.success("fan-out 임계값이 변경되었습니다.", fanOutPolicy.getThreshold()));
+
+        } catch (Exception e) {
+            log.error("Error updating fan-out threshold", e);
+            return ResponseEntity.ok(ApiResponse.error("fan-out 임계값 변경 중 오류가 발생했습니다.", null));
+        }
+    }
+
     @GetMapping("/algorithm-info")
     @Operation(summary = "개인화 알고리즘 정보",
             description = "현재 적용중인 개인화 알고리즘의 가중치 정보를 조회합니다.")
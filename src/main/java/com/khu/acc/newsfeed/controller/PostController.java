@@ -1,18 +1,18 @@
 package com.khu.acc.newsfeed.controller;
 
 import com.khu.acc.newsfeed.dto.ApiResponse;
+import com.khu.acc.newsfeed.dto.CursorPage;
 import com.khu.acc.newsfeed.dto.PostCreateRequest;
 import com.khu.acc.newsfeed.dto.PostResponse;
 import com.khu.acc.newsfeed.dto.PostUpdateRequest;
+import com.khu.acc.newsfeed.model.Post;
 import com.khu.acc.newsfeed.service.PostService;
+import com.khu.acc.newsfeed.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -20,7 +20,6 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.Optional;
 
 @Slf4j
 @RestController
@@ -30,13 +29,18 @@ import java.util.Optional;
 public class PostController {
 
     private final PostService postService;
+    private final UserService userService;
 
     @PostMapping
     @Operation(summary = "포스트 작성", description = "새로운 포스트를 작성합니다.")
     public ResponseEntity<ApiResponse<PostResponse>> createPost(
             @Valid @RequestBody PostCreateRequest request,
             @AuthenticationPrincipal UserDetails userDetails) {
-        return ResponseEntity.ok(ApiResponse.<PostResponse>builder().build());
+        String userId = extractUserIdFromUserDetails(userDetails);
+        Post post = postService.createPost(userId, request);
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Post created successfully", PostResponse.from(post)));
     }
 
     @GetMapping("/{postId}")
@@ -46,32 +50,41 @@ public class PostController {
     }
 
     @GetMapping("/user/{userId}")
-    @Operation(summary = "사용자 포스트 조회", description = "특정 사용자의 포스트들을 조회합니다.")
-    public ResponseEntity<ApiResponse<Page<PostResponse>>> getUserPosts(
+    @Operation(summary = "사용자 포스트 조회", description = "특정 사용자의 포스트들을 조회합니다. 다음 페이지는 nextCursor 로 조회합니다.")
+    public ResponseEntity<ApiResponse<List<PostResponse>>> getUserPosts(
             @PathVariable String userId,
-            @PageableDefault(size = 20) Pageable pageable) {
-        return ResponseEntity.ok(ApiResponse.<Page<PostResponse>>builder().build());
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPage<PostResponse> page = postService.getUserPosts(userId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.successPage("User posts retrieved successfully", page));
     }
 
     @GetMapping("/trending")
-    @Operation(summary = "트렌딩 포스트", description = "인기 있는 포스트들을 조회합니다.")
-    public ResponseEntity<ApiResponse<Page<PostResponse>>> getTrendingPosts(
-            @PageableDefault(size = 20) Pageable pageable) {
-        return ResponseEntity.ok(ApiResponse.<Page<PostResponse>>builder().build());
+    @Operation(summary = "트렌딩 포스트", description = "인기 있는 포스트들을 조회합니다. 다음 페이지는 nextCursor 로 조회합니다.")
+    public ResponseEntity<ApiResponse<List<PostResponse>>> getTrendingPosts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPage<PostResponse> page = postService.getTrendingPosts(cursor, size);
+        return ResponseEntity.ok(ApiResponse.successPage("Trending posts retrieved successfully", page));
     }
 
     @GetMapping("/tag/{tag}")
-    @Operation(summary = "태그별 포스트 조회", description = "특정 태그가 포함된 포스트들을 조회합니다.")
-    public ResponseEntity<ApiResponse<Page<PostResponse>>> getPostsByTag(
+    @Operation(summary = "태그별 포스트 조회", description = "특정 태그가 포함된 포스트들을 조회합니다. 다음 페이지는 nextCursor 로 조회합니다.")
+    public ResponseEntity<ApiResponse<List<PostResponse>>> getPostsByTag(
             @PathVariable String tag,
-            @PageableDefault(size = 20) Pageable pageable) {
-        return ResponseEntity.ok(ApiResponse.<Page<PostResponse>>builder().build());
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPage<PostResponse> page = postService.getPostsByTag(tag, cursor, size);
+        return ResponseEntity.ok(ApiResponse.successPage("Tag posts retrieved successfully", page));
     }
 
     @GetMapping("/search")
     @Operation(summary = "포스트 검색", description = "내용으로 포스트를 검색합니다.")
-    public ResponseEntity<ApiResponse<List<PostResponse>>> searchPosts(@RequestParam String content) {
-        return ResponseEntity.ok(ApiResponse.<List<PostResponse>>builder().build());
+    public ResponseEntity<ApiResponse<List<PostResponse>>> searchPosts(
+            @RequestParam String content,
+            @RequestParam(defaultValue = "20") int size) {
+        List<PostResponse> posts = postService.searchPosts(content, size);
+        return ResponseEntity.ok(ApiResponse.success("Posts retrieved successfully", posts));
     }
 
     @PutMapping("/{postId}")
@@ -80,7 +93,9 @@ public class PostController {
             @PathVariable String postId,
             @Valid @RequestBody PostUpdateRequest request,
             @AuthenticationPrincipal UserDetails userDetails) {
-        return ResponseEntity.ok(ApiResponse.<PostResponse>builder().build());
+        String userId = extractUserIdFromUserDetails(userDetails);
+        Post post = postService.updatePost(userId, postId, request);
+        return ResponseEntity.ok(ApiResponse.success("Post updated successfully", PostResponse.from(post)));
     }
 
     @DeleteMapping("/{postId}")
@@ -88,6 +103,17 @@ public class PostController {
     public ResponseEntity<ApiResponse<Void>> deletePost(
             @PathVariable String postId,
             @AuthenticationPrincipal UserDetails userDetails) {
-        return ResponseEntity.ok(ApiResponse.<Void>builder().build());
+        String userId = extractUserIdFromUserDetails(userDetails);
+        postService.deletePost(userId, postId);
+        return ResponseEntity.ok(ApiResponse.success("Post deleted successfully", null));
+    }
+
+    /**
+     * UserDetails에서 사용자 ID 추출
+     */
+    private String extractUserIdFromUserDetails(UserDetails userDetails) {
+        return userService.findByUsername(userDetails.getUsername())
+                .map(user -> user.getUserId())
+                .orElseThrow(() -> new IllegalArgumentException("User not found: " + userDetails.getUsername()));
     }
 }
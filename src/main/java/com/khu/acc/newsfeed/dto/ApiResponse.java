@@ -7,6 +7,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.Instant;
+import java.util.List;
 
 @Data
 @Builder
@@ -20,6 +21,9 @@ public class ApiResponse<T> {
     private T data;
     private String error;
 
+    // 커서 기반 목록의 다음 페이지 커서
+    private String nextCursor;
+
     @Builder.Default
     private Instant timestamp = Instant.now();
 
@@ -32,6 +36,16 @@ public class ApiResponse<T> {
                 .build();
     }
 
+    public static <T> ApiResponse<List<T>> successPage(String message, CursorPage<T> page) {
+        return ApiResponse.<List<T>>builder()
+                .success(true)
+                .message(message)
+                .data(page.getItems())
+                .nextCursor(page.getNextCursor())
+                .timestamp(Instant.now())
+                .build();
+    }
+
     public static <T> ApiResponse<T> error(String error, T data) {
         return ApiResponse.<T>builder()
                 .success(false)
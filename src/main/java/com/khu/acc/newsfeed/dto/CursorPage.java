@@ -0,0 +1,36 @@
+package com.khu.acc.newsfeed.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 (nextCursor 가 null 이면 마지막 페이지)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    private List<T> items;
+    private String nextCursor;
+    // 마감 시간 초과로 일부 단계가 생략된 응답 여부 (캐시하지 않음)
+    private boolean partial;
+
+    public static <T> CursorPage<T> of(List<T> items, String nextCursor) {
+        return new CursorPage<>(items, nextCursor, false);
+    }
+
+    public static <T> CursorPage<T> last(List<T> items) {
+        return new CursorPage<>(items, null, false);
+    }
+
+    public static <T> CursorPage<T> empty() {
+        return new CursorPage<>(Collections.emptyList(), null, false);
+    }
+}
@@ -0,0 +1,146 @@
+package com.khu.acc.newsfeed.dto;
+
+import com.khu.acc.newsfeed.model.Post;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Comparator;
+
+/**
+ * 피드 keyset 페이지네이션 커서
+ * <p>
+ * 시간순 목록은 마지막 후보의 (createdAt, postId)를({@link Kind#KEYSET}), 랭킹 목록(트렌딩)은 랭킹 내 offset 을
+ * ({@link Kind#OFFSET}) 담는다. 클라이언트에는 불투명한 Base64 문자열로만 노출되며,
+ * 클라이언트가 보낸 값이므로 목록 종류에 맞지 않거나 일부 필드가 빠진 커서는 IllegalArgumentException(400)으로 거절한다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class FeedCursor {
+
+    /**
+     * 피드 정렬 순서 (createdAt 내림차순, 동일 시각은 postId 내림차순)
+     */
+    public static final Comparator<Post> FEED_ORDER = Comparator
+            .comparing(Post::getCreatedAt, Comparator.reverseOrder())
+            .thenComparing(Post::getPostId, Comparator.reverseOrder());
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * 커서 종류 (시간순 위치 / 랭킹 offset)
+     */
+    public enum Kind {
+        KEYSET,
+        OFFSET
+    }
+
+    private final Kind kind;
+    private final Instant createdAt;
+    private final String postId;
+    private final int offset;
+
+    /**
+     * 해당 포스트 다음부터 조회하는 커서
+     */
+    public static FeedCursor after(Post post) {
+        return after(post.getCreatedAt(), post.getPostId());
+    }
+
+    /**
+     * 해당 위치(createdAt, postId) 다음부터 조회하는 커서 (인덱스 항목처럼 원본을 읽기 전인 경우)
+     */
+    public static FeedCursor after(Instant createdAt, String postId) {
+        if (createdAt == null || postId == null) {
+            throw new IllegalArgumentException("Keyset cursor requires createdAt and postId");
+        }
+        return new FeedCursor(Kind.KEYSET, createdAt, postId, 0);
+    }
+
+    /**
+     * 랭킹 목록에서 offset 부터 조회하는 커서
+     */
+    public static FeedCursor atOffset(int offset) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("Offset cursor requires a non-negative offset");
+        }
+        return new FeedCursor(Kind.OFFSET, null, null, offset);
+    }
+
+    /**
+     * 후보 윈도우로부터 다음 페이지 커서 계산 (윈도우가 가득 차지 않았으면 마지막 페이지)
+     * <p>
+     * 윈도우가 랭킹으로 재정렬되어 있어도 가장 오래된 후보를 기준으로 하므로 다음 페이지와 겹치지 않는다.
+     * 윈도우는 삭제/비활성 포스트를 걸러내기 전의 후보여야 한다 (걸러낸 뒤면 덜 찬 페이지를 마지막으로 오인함).
+     */
+    public static String nextOf(Collection<Post> window, int limit) {
+        if (window.isEmpty() || window.size() < limit) {
+            return null;
+        }
+        return window.stream()
+                .max(FEED_ORDER)
+                .map(post -> after(post).encode())
+                .orElse(null);
+    }
+
+    /**
+     * 시간순 목록 커서 해석 (없으면 null, createdAt/postId 가 빠졌거나 offset 커서면 IllegalArgumentException)
+     */
+    public static FeedCursor decode(String cursor) {
+        return decode(cursor, Kind.KEYSET);
+    }
+
+    /**
+     * 랭킹 목록 커서 해석 (없으면 null, 시간순 커서면 IllegalArgumentException)
+     */
+    public static FeedCursor decodeOffset(String cursor) {
+        return decode(cursor, Kind.OFFSET);
+    }
+
+    private static FeedCursor decode(String cursor, Kind expected) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        FeedCursor decoded;
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split("\\|", -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            // 두 종류는 위치 필드가 모두 있거나(시간순) 모두 비어 있는(랭킹) 경우만 유효
+            decoded = parts[0].isEmpty() && parts[1].isEmpty()
+                    ? atOffset(Integer.parseInt(parts[2]))
+                    : after(Instant.parse(parts[0]), parts[1].isEmpty() ? null : parts[1]);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        if (decoded.kind != expected) {
+            throw new IllegalArgumentException("Invalid cursor for this list: " + cursor);
+        }
+        return decoded;
+    }
+
+    public String encode() {
+        String raw = kind == Kind.KEYSET
+                ? createdAt + SEPARATOR + postId + SEPARATOR + 0
+                : SEPARATOR + SEPARATOR + offset;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 포스트가 커서 이후(더 오래된 쪽)에 위치하는지 확인
+     */
+    public boolean isBefore(Post post) {
+        if (kind != Kind.KEYSET) {
+            throw new IllegalStateException("Offset cursor has no feed position");
+        }
+        int compare = post.getCreatedAt().compareTo(createdAt);
+        return compare < 0 || (compare == 0 && post.getPostId().compareTo(postId) < 0);
+    }
+}
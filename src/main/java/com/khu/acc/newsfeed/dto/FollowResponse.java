@@ -1,6 +1,7 @@
 package com.khu.acc.newsfeed.dto;
 
 import com.khu.acc.newsfeed.model.Follow;
+import com.khu.acc.newsfeed.model.FollowEdge;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -29,4 +30,12 @@ public class FollowResponse {
                 .createdAt(follow.getCreatedAt())
                 .build();
     }
+
+    public static FollowResponse from(FollowEdge edge) {
+        return FollowResponse.builder()
+                .followerId(edge.getFollowerId())
+                .followeeId(edge.getFolloweeId())
+                .createdAt(edge.getFollowedAt())
+                .build();
+    }
 }
@@ -19,8 +19,8 @@ public class UserPersonalizationData {
     public UserPersonalizationData(Set<String> interests,
                                    Set<String> frequentlyInteractedUsers,
                                    Set<String> recentlyLikedTags) {
-        this.interests = interests != null ? interests : new HashSet<>();
-        this.frequentlyInteractedUsers = frequentlyInteractedUsers != null ? frequentlyInteractedUsers : new HashSet<>();
-        this.recentlyLikedTags = recentlyLikedTags != null ? recentlyLikedTags : new HashSet<>();
+        this.interests = interests != null ? interests : Set.of();
+        this.frequentlyInteractedUsers = frequentlyInteractedUsers != null ? frequentlyInteractedUsers : Set.of();
+        this.recentlyLikedTags = recentlyLikedTags != null ? recentlyLikedTags : Set.of();
     }
 }
\ No newline at end of file
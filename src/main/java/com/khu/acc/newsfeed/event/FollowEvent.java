@@ -0,0 +1,28 @@
+package com.khu.acc.newsfeed.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 팔로우/언팔로우 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class FollowEvent {
+
+    private final String followerId;
+    private final String followeeId;
+    // true: 팔로우, false: 언팔로우
+    private final boolean followed;
+    private final Instant occurredAt;
+
+    public static FollowEvent followed(String followerId, String followeeId) {
+        return new FollowEvent(followerId, followeeId, true, Instant.now());
+    }
+
+    public static FollowEvent unfollowed(String followerId, String followeeId) {
+        return new FollowEvent(followerId, followeeId, false, Instant.now());
+    }
+}
@@ -0,0 +1,59 @@
+package com.khu.acc.newsfeed.event;
+
+import com.khu.acc.newsfeed.model.Post;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * 포스트 참여(좋아요, 댓글) 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class PostEngagementEvent {
+
+    public enum Type {
+        LIKE(1.0),
+        UNLIKE(-1.0),
+        COMMENT(2.0),
+        UNCOMMENT(-2.0);
+
+        // 트렌딩 점수 가중치 (댓글은 좋아요의 2배)
+        private final double weight;
+
+        Type(double weight) {
+            this.weight = weight;
+        }
+
+        public double getWeight() {
+            return weight;
+        }
+    }
+
+    private final String postId;
+    // 포스트 작성자/태그 (개인화 프로필 갱신용, 포스트를 알 수 없으면 null)
+    private final String authorId;
+    private final Set<String> tags;
+    private final String userId;
+    private final Type type;
+    private final Instant occurredAt;
+    // 취소 이벤트가 되돌리는 원래 좋아요/댓글 시각 (알 수 없으면 null)
+    private final Instant engagedAt;
+
+    public static PostEngagementEvent of(Post post, String userId, Type type) {
+        return new PostEngagementEvent(post.getPostId(), post.getUserId(), post.getTags(), userId, type, Instant.now(), null);
+    }
+
+    public static PostEngagementEvent of(String postId, String userId, Type type) {
+        return new PostEngagementEvent(postId, null, null, userId, type, Instant.now(), null);
+    }
+
+    /**
+     * 원래 참여 시각을 지정한 취소 이벤트
+     */
+    public PostEngagementEvent undoing(Instant engagedAt) {
+        return new PostEngagementEvent(postId, authorId, tags, userId, type, occurredAt, engagedAt);
+    }
+}
@@ -0,0 +1,339 @@
+package com.khu.acc.newsfeed.graph;
+
+import com.khu.acc.newsfeed.ranking.TopKSelector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 프로세스 내 팔로우 그래프 (CSR)
+ * <p>
+ * 사용자 ID 를 증가하는 int ID 로 매핑하고, 팔로잉 목록을 offsets/targets 두 int 배열(CSR)로 저장한다.
+ * 각 사용자의 팔로잉은 정렬되어 있어 포함 여부를 이진 탐색으로 확인한다.
+ * 팔로우/언팔로우는 해당 사용자의 팔로잉 배열만 새로 만들어 덮어쓰기(override)로 반영하고,
+ * 덮어쓴 사용자가 많아지면 CSR 을 다시 만든다(compaction).
+ * 추천은 팔로잉의 팔로잉(friends-of-friends)을 공통 이웃 수로 집계해 상위 K 명을 반환하며,
+ * 집계는 실제로 도달한 후보만 담는 {@link IntCountMap} 으로 하므로 비용이 전체 사용자 수가 아니라 후보 간선 수에 비례하고,
+ * 팔로잉이 많으면 팔로잉 목록을 나눠 fork/join 으로 집계한 뒤 합친다.
+ */
+public class FollowGraph {
+
+    private static final int[] EMPTY = new int[0];
+    // 작업 하나가 집계하는 최소 팔로잉 수
+    private static final int MIN_FOLLOWING = 64;
+    private static final double COMPACT_OVERRIDE_RATIO = 0.1;
+    private static final int COMPACT_MIN_OVERRIDES = 1024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final List<String> userIds = new ArrayList<>();
+    private final Map<String, Integer> idsByUser = new HashMap<>();
+    private int[] offsets = {0};
+    private int[] targets = EMPTY;
+    private final Map<Integer, int[]> overrides = new HashMap<>();
+    private long edgeCount;
+
+    /**
+     * 팔로우 추가 (새 관계면 true)
+     */
+    public boolean addEdge(String followerId, String followeeId) {
+        lock.writeLock().lock();
+        try {
+            int follower = intern(followerId);
+            int followee = intern(followeeId);
+            int[] current = neighbors(follower);
+            int position = Arrays.binarySearch(current, followee);
+            if (position >= 0) {
+                return false;
+            }
+
+            int insertAt = -position - 1;
+            int[] updated = new int[current.length + 1];
+            System.arraycopy(current, 0, updated, 0, insertAt);
+            updated[insertAt] = followee;
+            System.arraycopy(current, insertAt, updated, insertAt + 1, current.length - insertAt);
+            edgeCount++;
+            override(follower, updated);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 팔로우 삭제 (있던 관계면 true)
+     */
+    public boolean removeEdge(String followerId, String followeeId) {
+        lock.writeLock().lock();
+        try {
+            Integer follower = idsByUser.get(followerId);
+            Integer followee = idsByUser.get(followeeId);
+            if (follower == null || followee == null) {
+                return false;
+            }
+            int[] current = neighbors(follower);
+            int position = Arrays.binarySearch(current, followee);
+            if (position < 0) {
+                return false;
+            }
+
+            int[] updated = new int[current.length - 1];
+            System.arraycopy(current, 0, updated, 0, position);
+            System.arraycopy(current, position + 1, updated, position, current.length - position - 1);
+            edgeCount--;
+            override(follower, updated);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 팔로잉의 팔로잉 중 공통 이웃 수가 많은 순으로 추천 (자기 자신과 이미 팔로우한 사용자 제외)
+     */
+    public List<String> recommend(String userId, int limit, ForkJoinPool pool) {
+        lock.readLock().lock();
+        try {
+            Integer user = idsByUser.get(userId);
+            if (user == null || limit <= 0) {
+                return List.of();
+            }
+            int[] following = neighbors(user);
+            if (following.length == 0) {
+                return List.of();
+            }
+
+            // 읽기 잠금을 잡은 상태에서 작업을 나눠 실행하므로 집계 중 그래프는 바뀌지 않음
+            int grain = Math.max(MIN_FOLLOWING, following.length / Math.max(1, pool.getParallelism() * 2));
+            CommonNeighborTask task = new CommonNeighborTask(following, grain, 0, following.length);
+            IntCountMap counts = following.length > grain ? pool.invoke(task) : task.compute();
+            return select(counts, user, following, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int nodeCount() {
+        lock.readLock().lock();
+        try {
+            return userIds.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long edgeCount() {
+        lock.readLock().lock();
+        try {
+            return edgeCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 구축용 (간선을 모은 뒤 한 번에 CSR 생성)
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private int intern(String userId) {
+        Integer id = idsByUser.get(userId);
+        if (id != null) {
+            return id;
+        }
+        int newId = userIds.size();
+        userIds.add(userId);
+        idsByUser.put(userId, newId);
+        return newId;
+    }
+
+    // 정렬된 팔로잉 (CSR 범위는 복사본)
+    private int[] neighbors(int node) {
+        int[] overridden = overrides.get(node);
+        if (overridden != null) {
+            return overridden;
+        }
+        if (node + 1 >= offsets.length) {
+            return EMPTY;
+        }
+        return Arrays.copyOfRange(targets, offsets[node], offsets[node + 1]);
+    }
+
+    private void override(int node, int[] adjacency) {
+        overrides.put(node, adjacency);
+        if (overrides.size() > Math.max(COMPACT_MIN_OVERRIDES, userIds.size() * COMPACT_OVERRIDE_RATIO)) {
+            compact();
+        }
+    }
+
+    private void compact() {
+        int nodeCount = userIds.size();
+        int[] newOffsets = new int[nodeCount + 1];
+        int[] newTargets = new int[(int) edgeCount + 1];
+        for (int node = 0; node < nodeCount; node++) {
+            int[] adjacency = neighbors(node);
+            System.arraycopy(adjacency, 0, newTargets, newOffsets[node], adjacency.length);
+            newOffsets[node + 1] = newOffsets[node] + adjacency.length;
+        }
+        offsets = newOffsets;
+        targets = Arrays.copyOf(newTargets, newOffsets[nodeCount]);
+        overrides.clear();
+    }
+
+    /**
+     * 자기 자신과 이미 팔로우한 사용자를 빼고 공통 이웃 수 상위 limit 명 (동점은 먼저 가입한 사용자 우선)
+     */
+    private List<String> select(IntCountMap counts, int user, int[] following, int limit) {
+        int[] candidates = new int[counts.size()];
+        int[] commonCounts = new int[counts.size()];
+        int n = counts.drainTo(candidates, commonCounts);
+
+        double[] scores = new double[n];
+        int kept = 0;
+        for (int i = 0; i < n; i++) {
+            int candidate = candidates[i];
+            if (candidate == user || Arrays.binarySearch(following, candidate) >= 0) {
+                continue;
+            }
+            candidates[kept] = candidate;
+            // 공통 이웃 수가 같으면 작은 ID 가 앞서도록 1 미만의 보정값을 뺌
+            scores[kept++] = commonCounts[i] - (double) candidate / (userIds.size() + 1);
+        }
+
+        int[] top = TopKSelector.select(scores, kept, limit);
+        List<String> result = new ArrayList<>(top.length);
+        for (int index : top) {
+            result.add(userIds.get(candidates[index]));
+        }
+        return result;
+    }
+
+    /**
+     * 팔로잉 목록을 나눠 팔로잉의 팔로잉 등장 횟수 집계
+     * <p>
+     * 작업마다 담당 팔로잉의 팔로잉만 자기 {@link IntCountMap} 에 세고, 합칠 때 작은 쪽을 큰 쪽에 더한다.
+     */
+    private final class CommonNeighborTask extends RecursiveTask<IntCountMap> {
+
+        private final int[] following;
+        private final int grain;
+        private final int from;
+        private final int to;
+
+        private CommonNeighborTask(int[] following, int grain, int from, int to) {
+            this.following = following;
+            this.grain = grain;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected IntCountMap compute() {
+            if (to - from > grain) {
+                int middle = (from + to) >>> 1;
+                CommonNeighborTask left = new CommonNeighborTask(following, grain, from, middle);
+                left.fork();
+                IntCountMap right = new CommonNeighborTask(following, grain, middle, to).compute();
+                IntCountMap joined = left.join();
+                if (joined.size() < right.size()) {
+                    right.addAll(joined);
+                    return right;
+                }
+                joined.addAll(right);
+                return joined;
+            }
+
+            IntCountMap counts = new IntCountMap(64);
+            for (int i = from; i < to; i++) {
+                int node = following[i];
+                int[] adjacency = overrides.get(node);
+                int start;
+                int end;
+                if (adjacency != null) {
+                    start = 0;
+                    end = adjacency.length;
+                } else if (node + 1 < offsets.length) {
+                    adjacency = targets;
+                    start = offsets[node];
+                    end = offsets[node + 1];
+                } else {
+                    continue;
+                }
+
+                for (int j = start; j < end; j++) {
+                    counts.add(adjacency[j], 1);
+                }
+            }
+            return counts;
+        }
+    }
+
+    /**
+     * 팔로우 간선을 모아 CSR 로 변환
+     */
+    public static final class Builder {
+
+        private final FollowGraph graph = new FollowGraph();
+        private int[] sources = new int[1024];
+        private int[] destinations = new int[1024];
+        private int size;
+
+        private Builder() {
+        }
+
+        public Builder addEdge(String followerId, String followeeId) {
+            if (size == sources.length) {
+                sources = Arrays.copyOf(sources, size * 2);
+                destinations = Arrays.copyOf(destinations, size * 2);
+            }
+            sources[size] = graph.intern(followerId);
+            destinations[size++] = graph.intern(followeeId);
+            return this;
+        }
+
+        public FollowGraph build() {
+            int nodeCount = graph.userIds.size();
+
+            // 팔로워별 counting sort
+            int[] offsets = new int[nodeCount + 1];
+            for (int i = 0; i < size; i++) {
+                offsets[sources[i] + 1]++;
+            }
+            for (int node = 0; node < nodeCount; node++) {
+                offsets[node + 1] += offsets[node];
+            }
+            int[] cursor = Arrays.copyOf(offsets, nodeCount);
+            int[] targets = new int[size];
+            for (int i = 0; i < size; i++) {
+                targets[cursor[sources[i]]++] = destinations[i];
+            }
+
+            // 사용자별 정렬 후 중복 제거하며 앞으로 당김
+            int[] compacted = new int[nodeCount + 1];
+            int write = 0;
+            for (int node = 0; node < nodeCount; node++) {
+                Arrays.sort(targets, offsets[node], offsets[node + 1]);
+                compacted[node] = write;
+                for (int i = offsets[node]; i < offsets[node + 1]; i++) {
+                    if (i == offsets[node] || targets[i] != targets[i - 1]) {
+                        targets[write++] = targets[i];
+                    }
+                }
+            }
+            compacted[nodeCount] = write;
+
+            graph.offsets = compacted;
+            graph.targets = Arrays.copyOf(targets, write);
+            graph.edgeCount = write;
+            return graph;
+        }
+    }
+}
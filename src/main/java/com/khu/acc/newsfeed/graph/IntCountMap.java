@@ -0,0 +1,101 @@
+package com.khu.acc.newsfeed.graph;
+
+import java.util.Arrays;
+
+/**
+ * int 키별 int 카운트 (open addressing, 선형 탐사)
+ * <p>
+ * 추천 집계에서 실제로 도달한 사용자만 담으므로 크기가 전체 사용자 수가 아니라 후보 수에 비례한다.
+ * 키는 0 이상의 사용자 ID 만 허용하며, 빈 슬롯은 -1 로 표시한다. 스레드 안전하지 않다.
+ */
+final class IntCountMap {
+
+    private static final int FREE = -1;
+    private static final int MIN_CAPACITY = 16;
+
+    private int[] keys;
+    private int[] counts;
+    private int size;
+    private int mask;
+    private int shift;
+
+    IntCountMap(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, expected * 2 - 1)) << 1;
+        allocate(capacity);
+    }
+
+    /**
+     * key 의 카운트에 delta 더하기
+     */
+    void add(int key, int delta) {
+        int slot = slot(key);
+        if (keys[slot] == FREE) {
+            keys[slot] = key;
+            counts[slot] = delta;
+            if (++size * 2 > keys.length) {
+                rehash(keys.length << 1);
+            }
+        } else {
+            counts[slot] += delta;
+        }
+    }
+
+    /**
+     * other 의 카운트를 모두 더하기
+     */
+    void addAll(IntCountMap other) {
+        for (int i = 0; i < other.keys.length; i++) {
+            if (other.keys[i] != FREE) {
+                add(other.keys[i], other.counts[i]);
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 키를 keysOut, 카운트를 countsOut 에 같은 순서로 채우고 개수 반환
+     */
+    int drainTo(int[] keysOut, int[] countsOut) {
+        int n = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE) {
+                keysOut[n] = keys[i];
+                countsOut[n++] = counts[i];
+            }
+        }
+        return n;
+    }
+
+    private int slot(int key) {
+        // 연속된 사용자 ID 가 이웃 슬롯에 몰리지 않도록 곱셈 해시의 상위 비트 사용
+        int slot = (key * 0x9E3779B9) >>> shift;
+        while (keys[slot] != FREE && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        Arrays.fill(keys, FREE);
+        counts = new int[capacity];
+        mask = capacity - 1;
+        shift = Integer.numberOfLeadingZeros(capacity) + 1;
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldCounts = counts;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE) {
+                int slot = slot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                counts[slot] = oldCounts[i];
+            }
+        }
+    }
+}
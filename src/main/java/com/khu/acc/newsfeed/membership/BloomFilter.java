@@ -0,0 +1,116 @@
+package com.khu.acc.newsfeed.membership;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 프로세스 내 Bloom 필터
+ * <p>
+ * 비트 배열을 long 단위 CAS 로 설정하므로 조회와 추가 모두 잠금 없이 동작한다.
+ * 해시는 문자열 하나에서 64비트 해시 두 개를 만들고 (h1 + i * h2) 로 k 개 위치를 얻는다. (Kirsch-Mitzenmacher)
+ * 삭제는 지원하지 않으며, 삭제된 항목은 다음 재구축 전까지 양성(false positive)으로 남는다.
+ */
+public class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long numBits;
+    private final int numHashes;
+    private final long expectedInsertions;
+    private final AtomicLong insertions = new AtomicLong();
+
+    private BloomFilter(long numBits, int numHashes, long expectedInsertions) {
+        int numWords = (int) Math.min(Integer.MAX_VALUE - 8, (numBits + 63) / 64);
+        this.words = new AtomicLongArray(numWords);
+        this.numBits = (long) numWords * 64;
+        this.numHashes = numHashes;
+        this.expectedInsertions = expectedInsertions;
+    }
+
+    /**
+     * 예상 항목 수와 목표 오탐률로 생성
+     * <p>
+     * m = -n ln(p) / (ln 2)^2, k = (m / n) ln 2
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False positive rate must be in (0, 1): " + falsePositiveRate);
+        }
+        long n = Math.max(1, expectedInsertions);
+        long numBits = Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveRate) / (LN2 * LN2)));
+        int numHashes = Math.max(1, (int) Math.round((double) numBits / n * LN2));
+        return new BloomFilter(numBits, numHashes, n);
+    }
+
+    /**
+     * 항목 추가 (새로 설정된 비트가 있으면 true)
+     */
+    public boolean put(String item) {
+        long h1 = hash(item);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1L;
+
+        boolean changed = false;
+        for (int i = 0; i < numHashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, numBits);
+            int wordIndex = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long previous = words.getAndAccumulate(wordIndex, mask, (current, m) -> current | m);
+            changed |= (previous & mask) == 0;
+        }
+        if (changed) {
+            insertions.incrementAndGet();
+        }
+        return changed;
+    }
+
+    /**
+     * 포함 여부 (false 면 확실히 없음, true 면 있을 수 있음)
+     */
+    public boolean mightContain(String item) {
+        long h1 = hash(item);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1L;
+
+        for (int i = 0; i < numHashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, numBits);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 현재 추가된 항목 수 기준 예상 오탐률: (1 - e^(-kn/m))^k
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow(1 - Math.exp(-numHashes * (double) insertions.get() / numBits), numHashes);
+    }
+
+    public long getInsertions() {
+        return insertions.get();
+    }
+
+    public long getExpectedInsertions() {
+        return expectedInsertions;
+    }
+
+    // FNV-1a 후 64비트 finalizer 로 비트 분산
+    private static long hash(String item) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < item.length(); i++) {
+            h ^= item.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        return mix(h);
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
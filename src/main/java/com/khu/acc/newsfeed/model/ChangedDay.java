@@ -0,0 +1,51 @@
+package com.khu.acc.newsfeed.model;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 변경 일자 파티션 (ChangedIndex)
+ * <p>
+ * 변경 시각(updatedAt)의 UTC 날짜를 GSI 파티션 키로 두어, 특정 시각 이후 변경된 항목을 테이블 Scan 없이 날짜별 Query 로 읽는다.
+ * 하루의 모든 쓰기가 한 파티션에 몰리지 않도록 키를 "yyyy-MM-dd#샤드"(샤드 = ID 해시 % SHARDS)로 나누고,
+ * 읽을 때는 날짜마다 모든 샤드를 Query 한다.
+ * 인덱스는 키만 투영하므로 카운터 ADD 처럼 인덱스 키가 바뀌지 않는 갱신은 인덱스 쓰기를 만들지 않는다.
+ */
+public final class ChangedDay {
+
+    public static final String INDEX = "ChangedIndex";
+    public static final String ATTRIBUTE = "changedDay";
+    // 날짜당 샤드 수 (바꾸면 기존 항목의 키와 어긋나므로 스냅샷을 지우고 전체 재적재 필요)
+    public static final int SHARDS = 16;
+
+    private ChangedDay() {
+    }
+
+    public static String of(Instant instant, String id) {
+        if (instant == null || id == null) {
+            return null;
+        }
+        return key(LocalDate.ofInstant(instant, ZoneOffset.UTC), Math.floorMod(id.hashCode(), SHARDS));
+    }
+
+    /**
+     * since 부터 until 까지의 날짜별 모든 샤드 파티션 (양 끝 날짜 포함)
+     */
+    public static List<String> between(Instant since, Instant until) {
+        List<String> partitions = new ArrayList<>();
+        LocalDate last = LocalDate.ofInstant(until, ZoneOffset.UTC);
+        for (LocalDate day = LocalDate.ofInstant(since, ZoneOffset.UTC); !day.isAfter(last); day = day.plusDays(1)) {
+            for (int shard = 0; shard < SHARDS; shard++) {
+                partitions.add(key(day, shard));
+            }
+        }
+        return partitions;
+    }
+
+    private static String key(LocalDate day, int shard) {
+        return day + "#" + shard;
+    }
+}
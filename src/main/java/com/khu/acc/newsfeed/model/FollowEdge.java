@@ -0,0 +1,39 @@
+package com.khu.acc.newsfeed.model;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 팔로우 관계 (followerId + followeeId 복합 키)
+ * <p>
+ * 팔로우 여부는 GetItem, 팔로잉 목록은 기본 테이블 Query, 팔로워 목록은 FolloweeIndex Query 로 조회한다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@DynamoDBTable(tableName = "FollowEdges")
+public class FollowEdge {
+
+    public static final String FOLLOWEE_INDEX = "FolloweeIndex";
+
+    @DynamoDBHashKey(attributeName = "followerId")
+    private String followerId;
+
+    @DynamoDBRangeKey(attributeName = "followeeId")
+    @DynamoDBIndexHashKey(globalSecondaryIndexName = FOLLOWEE_INDEX, attributeName = "followeeId")
+    private String followeeId;
+
+    @DynamoDBIndexRangeKey(globalSecondaryIndexName = FOLLOWEE_INDEX, attributeName = "followedAt")
+    @DynamoDBTypeConverted(converter = InstantConverter.class)
+    private Instant followedAt;
+
+    public static FollowEdge of(String followerId, String followeeId, Instant followedAt) {
+        return new FollowEdge(followerId, followeeId, followedAt);
+    }
+}
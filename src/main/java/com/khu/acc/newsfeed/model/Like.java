@@ -27,4 +27,11 @@ public class Like {
     @DynamoDBAttribute(attributeName = "createdAt")
     @DynamoDBTypeConverted(converter = InstantConverter.class)
     private Instant createdAt;
+
+    /**
+     * (포스트, 사용자) 쌍의 고정 Like ID (같은 좋아요를 여러 번 써도 항목 하나)
+     */
+    public static String idOf(String postId, String userId) {
+        return "like_" + postId + "_" + userId;
+    }
 }
\ No newline at end of file
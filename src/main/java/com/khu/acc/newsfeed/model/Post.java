@@ -1,6 +1,7 @@
 package com.khu.acc.newsfeed.model;
 
 import com.amazonaws.services.dynamodbv2.datamodeling.*;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -52,8 +53,23 @@ public class Post {
 
     @DynamoDBAttribute(attributeName = "updatedAt")
     @DynamoDBTypeConverted(converter = InstantConverter.class)
+    @DynamoDBIndexRangeKey(globalSecondaryIndexName = ChangedDay.INDEX)
     private Instant updatedAt;
 
+    /**
+     * 변경 일자 샤드 (ChangedIndex 파티션 키, updatedAt 과 ID 에서 계산해 저장, API 응답에는 포함하지 않음)
+     */
+    @JsonIgnore
+    @DynamoDBIndexHashKey(globalSecondaryIndexName = ChangedDay.INDEX, attributeName = ChangedDay.ATTRIBUTE)
+    public String getChangedDay() {
+        return ChangedDay.of(updatedAt, postId);
+    }
+
+    @JsonIgnore
+    public void setChangedDay(String changedDay) {
+        // updatedAt 에서 계산하므로 읽은 값은 사용하지 않음
+    }
+
     @DynamoDBIgnore
     public void incrementLikesCount() {
         this.likesCount = (this.likesCount == null ? 0 : this.likesCount) + 1;
@@ -0,0 +1,158 @@
+package com.khu.acc.newsfeed.ranking;
+
+import com.khu.acc.newsfeed.model.Post;
+
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * 요청 단위 개인화 점수 계산 커널
+ * <p>
+ * 후보를 추가하는 시점에 태그를 정렬된 사전 ID 배열로 바꿔 관심사 ID 배열과 병합 순회한 교집합 크기만 기록하고,
+ * 점수 계산은 primitive 배열만 순회한다. 현재 시각은 요청당 한 번만 읽으며 후보마다 객체를 만들지 않는다.
+ * 요청마다 새로 만들어 사용한다. (스레드 안전하지 않음)
+ */
+public final class ScoringKernel {
+
+    // 개인화 가중치 설정
+    private static final double INTEREST_WEIGHT = 0.4;      // 관심사 가중치
+    private static final double ENGAGEMENT_WEIGHT = 0.3;    // 참여도 가중치
+    private static final double RECENCY_WEIGHT = 0.2;       // 최신성 가중치
+    private static final double AUTHOR_WEIGHT = 0.1;        // 작성자 관계 가중치
+
+    private static final long MILLIS_PER_HOUR = 3_600_000L;
+
+    private final TagDictionary tagDictionary;
+    private final int[] interestIds;
+    private final int interestCount;
+    private final Set<String> frequentAuthors;
+    private final long nowMillis;
+    // 후보 태그 ID 작업 공간 (후보마다 재사용, 부족하면 늘림)
+    private int[] tagIds = new int[16];
+
+    private final int[] matchedTags;
+    private final int[] tagCounts;
+    private final long[] engagement;
+    private final long[] createdAtMillis;
+    private final boolean[] frequentAuthor;
+    private int size;
+
+    public ScoringKernel(TagDictionary tagDictionary, Set<String> interests, Set<String> frequentAuthors,
+                         long nowMillis, int capacity) {
+        this.tagDictionary = tagDictionary;
+        this.interestIds = tagDictionary.encode(interests);
+        this.interestCount = interests != null ? interests.size() : 0;
+        this.frequentAuthors = frequentAuthors;
+        this.nowMillis = nowMillis;
+
+        this.matchedTags = new int[capacity];
+        this.tagCounts = new int[capacity];
+        this.engagement = new long[capacity];
+        this.createdAtMillis = new long[capacity];
+        this.frequentAuthor = new boolean[capacity];
+    }
+
+    /**
+     * 후보 추가 (태그 교집합 크기와 점수 입력값만 기록)
+     */
+    public void add(Post post) {
+        int index = size++;
+
+        Set<String> tags = post.getTags();
+        int tagCount = tags != null ? tags.size() : 0;
+        int matched = 0;
+        if (tagCount > 0 && interestCount > 0) {
+            if (tagIds.length < tagCount) {
+                tagIds = new int[Math.max(tagCount, tagIds.length * 2)];
+            }
+            int known = 0;
+            for (String tag : tags) {
+                // 사전에 없는 태그는 관심사일 수 없음
+                int id = tagDictionary.idOf(tag);
+                if (id >= 0) {
+                    tagIds[known++] = id;
+                }
+            }
+            Arrays.sort(tagIds, 0, known);
+            matched = intersectionSize(interestIds, interestIds.length, tagIds, known);
+        }
+        matchedTags[index] = matched;
+        tagCounts[index] = tagCount;
+
+        long likes = post.getLikesCount() != null ? post.getLikesCount() : 0L;
+        long comments = post.getCommentsCount() != null ? post.getCommentsCount() : 0L;
+        engagement[index] = likes + comments * 2;
+        createdAtMillis[index] = post.getCreatedAt().toEpochMilli();
+        frequentAuthor[index] = frequentAuthors.contains(post.getUserId());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 두 오름차순 ID 배열의 교집합 크기 (병합 순회)
+     */
+    private static int intersectionSize(int[] a, int aLength, int[] b, int bLength) {
+        int matched = 0;
+        int i = 0;
+        int j = 0;
+        while (i < aLength && j < bLength) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                matched++;
+                i++;
+                j++;
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * 추가된 후보 순서대로 점수를 scores 에 기록
+     */
+    public void score(double[] scores) {
+        for (int i = 0; i < size; i++) {
+            scores[i] = interestScore(i) * INTEREST_WEIGHT
+                    + engagementScore(i) * ENGAGEMENT_WEIGHT
+                    + recencyScore(i) * RECENCY_WEIGHT
+                    + (frequentAuthor[i] ? 1.0 : 0.5) * AUTHOR_WEIGHT;
+        }
+    }
+
+    /**
+     * 관심사 점수 (교집합 없음: 0.3, 매칭 비율에 따라 0.5 ~ 1.0, 비교 불가: 0.5)
+     */
+    private double interestScore(int i) {
+        if (interestCount == 0 || tagCounts[i] == 0) {
+            return 0.5;
+        }
+        if (matchedTags[i] == 0) {
+            return 0.3;
+        }
+        return 0.5 + (double) matchedTags[i] / Math.max(interestCount, tagCounts[i]) * 0.5;
+    }
+
+    /**
+     * 참여도 점수 (로그 스케일, 0 ~ 1)
+     */
+    private double engagementScore(int i) {
+        return Math.min(1.0, Math.log(1 + engagement[i]) / 10.0);
+    }
+
+    /**
+     * 최신성 점수 (24시간 이내: 1.0, 일주일 이후: 0.1)
+     */
+    private double recencyScore(int i) {
+        long hoursAgo = (nowMillis - createdAtMillis[i]) / MILLIS_PER_HOUR;
+        if (hoursAgo <= 24) {
+            return 1.0;
+        } else if (hoursAgo <= 168) {
+            return 1.0 - (hoursAgo - 24) / 168.0 * 0.9;
+        }
+        return 0.1;
+    }
+}
@@ -0,0 +1,72 @@
+package com.khu.acc.newsfeed.ranking;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 태그 문자열 → 정수 ID 사전
+ * <p>
+ * 관심사/태그 집합을 정렬된 ID 배열로 표현해 교집합을 병합 순회로 계산할 수 있게 한다.
+ * 배열 크기는 집합 크기만큼이라 사전이 커져도 요청당 비용은 늘지 않는다.
+ * ID 는 프로세스 내에서만 유효하며 저장하지 않는다.
+ */
+@Component
+public class TagDictionary {
+
+    private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    /**
+     * 태그 ID 조회 (없으면 새로 부여)
+     */
+    public int intern(String tag) {
+        Integer id = ids.get(tag);
+        return id != null ? id : ids.computeIfAbsent(tag, t -> nextId.getAndIncrement());
+    }
+
+    /**
+     * 태그 ID 조회 (없으면 -1, 새로 부여하지 않음)
+     */
+    public int idOf(String tag) {
+        Integer id = ids.get(tag);
+        return id != null ? id : -1;
+    }
+
+    /**
+     * 태그 집합을 중복 없는 오름차순 ID 배열로 인코딩 (ID 부여 포함)
+     */
+    public int[] encode(Collection<String> tags) {
+        if (tags == null || tags.isEmpty()) {
+            return new int[0];
+        }
+
+        int[] tagIds = new int[tags.size()];
+        int count = 0;
+        for (String tag : tags) {
+            tagIds[count++] = intern(tag);
+        }
+        return sortedDistinct(tagIds, count);
+    }
+
+    /**
+     * 앞 count 개를 정렬하고 중복을 제거한 배열
+     */
+    private static int[] sortedDistinct(int[] ids, int count) {
+        Arrays.sort(ids, 0, count);
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (i == 0 || ids[i] != ids[i - 1]) {
+                ids[distinct++] = ids[i];
+            }
+        }
+        return distinct == ids.length ? ids : Arrays.copyOf(ids, distinct);
+    }
+
+    public int size() {
+        return ids.size();
+    }
+}
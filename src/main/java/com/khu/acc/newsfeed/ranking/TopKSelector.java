@@ -0,0 +1,84 @@
+package com.khu.acc.newsfeed.ranking;
+
+/**
+ * 점수 배열에서 상위 K 개 인덱스 선택
+ * <p>
+ * 크기 K 의 최소 힙을 primitive 배열로 유지해 O(n log k) 로 선택한다.
+ * 동점은 원래 순서(작은 인덱스)가 앞선다.
+ */
+public final class TopKSelector {
+
+    private TopKSelector() {
+    }
+
+    /**
+     * 점수 내림차순 상위 k 개의 인덱스 반환
+     */
+    public static int[] select(double[] scores, int n, int k) {
+        int size = Math.min(k, n);
+        if (size <= 0) {
+            return new int[0];
+        }
+
+        // heap[0] 이 현재 상위 K 중 가장 낮은 순위
+        int[] heap = new int[size];
+        int heapSize = 0;
+        for (int i = 0; i < n; i++) {
+            if (heapSize < size) {
+                heap[heapSize] = i;
+                siftUp(heap, heapSize++, scores);
+            } else if (ranksHigher(i, heap[0], scores)) {
+                heap[0] = i;
+                siftDown(heap, 0, heapSize, scores);
+            }
+        }
+
+        // 가장 낮은 순위부터 꺼내 뒤에서부터 채운다
+        int[] result = new int[heapSize];
+        for (int i = heapSize - 1; i >= 0; i--) {
+            result[i] = heap[0];
+            heap[0] = heap[--heapSize];
+            siftDown(heap, 0, heapSize, scores);
+        }
+        return result;
+    }
+
+    /**
+     * a 가 b 보다 높은 순위인지 (점수 내림차순, 동점은 인덱스 오름차순)
+     */
+    private static boolean ranksHigher(int a, int b, double[] scores) {
+        int compare = Double.compare(scores[a], scores[b]);
+        return compare > 0 || (compare == 0 && a < b);
+    }
+
+    private static void siftUp(int[] heap, int index, double[] scores) {
+        int item = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!ranksHigher(heap[parent], item, scores)) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = item;
+    }
+
+    private static void siftDown(int[] heap, int index, int size, double[] scores) {
+        int item = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && ranksHigher(heap[child], heap[right], scores)) {
+                child = right;
+            }
+            if (!ranksHigher(item, heap[child], scores)) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = item;
+    }
+}
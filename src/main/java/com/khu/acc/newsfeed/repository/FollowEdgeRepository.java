@@ -0,0 +1,215 @@
+package com.khu.acc.newsfeed.repository;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBDeleteExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBQueryExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBSaveExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.QueryResultPage;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.ConditionalCheckFailedException;
+import com.amazonaws.services.dynamodbv2.model.ExpectedAttributeValue;
+import com.khu.acc.newsfeed.dto.CursorPage;
+import com.khu.acc.newsfeed.model.FollowEdge;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 팔로우 관계 저장소 (FollowEdges 테이블)
+ * <p>
+ * 모든 조회는 키 기반이다. 팔로우 여부는 GetItem, 여러 대상 확인은 BatchGetItem 한 번(최대 100개),
+ * 팔로잉 목록은 기본 테이블 Query(followeeId 순), 팔로워 목록은 FolloweeIndex Query(최신 팔로우 순)로 읽는다.
+ * 목록 커서는 Query 의 LastEvaluatedKey 를 Base64 로 감싼 값이다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FollowEdgeRepository {
+
+    public static final int BATCH_CHECK_MAX_TARGETS = 100;
+    private static final String CURSOR_SEPARATOR = "|";
+
+    private final DynamoDBMapper dynamoDBMapper;
+
+    /**
+     * 팔로우 관계 조회 (GetItem)
+     */
+    public Optional<FollowEdge> find(String followerId, String followeeId) {
+        return Optional.ofNullable(dynamoDBMapper.load(FollowEdge.class, followerId, followeeId));
+    }
+
+    public boolean exists(String followerId, String followeeId) {
+        return find(followerId, followeeId).isPresent();
+    }
+
+    /**
+     * 여러 대상에 대해 팔로우 중인 사용자 ID 조회 (BatchGetItem 한 번, 최대 100개)
+     */
+    public Set<String> findFollowedAmong(String followerId, Collection<String> followeeIds) {
+        List<FollowEdge> keys = followeeIds.stream()
+                .distinct()
+                .map(followeeId -> FollowEdge.of(followerId, followeeId, null))
+                .collect(Collectors.toList());
+        if (keys.isEmpty()) {
+            return Set.of();
+        }
+        if (keys.size() > BATCH_CHECK_MAX_TARGETS) {
+            throw new IllegalArgumentException("At most " + BATCH_CHECK_MAX_TARGETS + " targets can be checked at once");
+        }
+
+        Set<String> followed = new HashSet<>();
+        dynamoDBMapper.batchLoad(keys).values().stream()
+                .flatMap(List::stream)
+                .map(FollowEdge.class::cast)
+                .forEach(edge -> followed.add(edge.getFolloweeId()));
+        return followed;
+    }
+
+    /**
+     * 팔로우 관계 생성 (이미 있으면 false, 조건부 PutItem)
+     */
+    public boolean create(FollowEdge edge) {
+        DynamoDBSaveExpression notExists = new DynamoDBSaveExpression()
+                .withExpectedEntry("followerId", new ExpectedAttributeValue(false));
+        try {
+            dynamoDBMapper.save(edge, notExists);
+            return true;
+        } catch (ConditionalCheckFailedException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 팔로우 관계 삭제 (없었으면 false, 조건부 DeleteItem)
+     */
+    public boolean delete(String followerId, String followeeId) {
+        DynamoDBDeleteExpression exists = new DynamoDBDeleteExpression()
+                .withExpectedEntry("followerId", new ExpectedAttributeValue(new AttributeValue().withS(followerId)));
+        try {
+            dynamoDBMapper.delete(FollowEdge.of(followerId, followeeId, null), exists);
+            return true;
+        } catch (ConditionalCheckFailedException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 팔로잉 목록 한 페이지 (기본 테이블 Query)
+     */
+    public CursorPage<FollowEdge> findFollowing(String followerId, int limit, String cursor) {
+        DynamoDBQueryExpression<FollowEdge> query = new DynamoDBQueryExpression<FollowEdge>()
+                .withKeyConditionExpression("followerId = :followerId")
+                .withExpressionAttributeValues(Map.of(":followerId", new AttributeValue().withS(followerId)))
+                .withLimit(limit)
+                .withExclusiveStartKey(decodeCursor(cursor));
+        return toPage(dynamoDBMapper.queryPage(FollowEdge.class, query));
+    }
+
+    /**
+     * 팔로워 목록 한 페이지 (FolloweeIndex Query, 최신 팔로우 순)
+     */
+    public CursorPage<FollowEdge> findFollowers(String followeeId, int limit, String cursor) {
+        DynamoDBQueryExpression<FollowEdge> query = new DynamoDBQueryExpression<FollowEdge>()
+                .withIndexName(FollowEdge.FOLLOWEE_INDEX)
+                .withConsistentRead(false)
+                .withKeyConditionExpression("followeeId = :followeeId")
+                .withExpressionAttributeValues(Map.of(":followeeId", new AttributeValue().withS(followeeId)))
+                .withScanIndexForward(false)
+                .withLimit(limit)
+                .withExclusiveStartKey(decodeCursor(cursor));
+        return toPage(dynamoDBMapper.queryPage(FollowEdge.class, query));
+    }
+
+    /**
+     * 전체 팔로잉 ID (Query 페이지를 끝까지 읽음)
+     */
+    public List<String> findFollowingIds(String followerId) {
+        List<String> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<FollowEdge> page = findFollowing(followerId, 1000, cursor);
+            page.getItems().forEach(edge -> ids.add(edge.getFolloweeId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
+    /**
+     * 전체 팔로워 ID (최신 팔로우 순)
+     */
+    public List<String> findFollowerIds(String followeeId) {
+        List<String> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<FollowEdge> page = findFollowers(followeeId, 1000, cursor);
+            page.getItems().forEach(edge -> ids.add(edge.getFollowerId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
+    /**
+     * 팔로잉 수 (Query COUNT)
+     */
+    public long countFollowing(String followerId) {
+        return dynamoDBMapper.count(FollowEdge.class, new DynamoDBQueryExpression<FollowEdge>()
+                .withKeyConditionExpression("followerId = :followerId")
+                .withExpressionAttributeValues(Map.of(":followerId", new AttributeValue().withS(followerId))));
+    }
+
+    /**
+     * 팔로워 수 (FolloweeIndex Query COUNT)
+     */
+    public long countFollowers(String followeeId) {
+        return dynamoDBMapper.count(FollowEdge.class, new DynamoDBQueryExpression<FollowEdge>()
+                .withIndexName(FollowEdge.FOLLOWEE_INDEX)
+                .withConsistentRead(false)
+                .withKeyConditionExpression("followeeId = :followeeId")
+                .withExpressionAttributeValues(Map.of(":followeeId", new AttributeValue().withS(followeeId))));
+    }
+
+    private static CursorPage<FollowEdge> toPage(QueryResultPage<FollowEdge> page) {
+        return CursorPage.of(page.getResults(), encodeCursor(page.getLastEvaluatedKey()));
+    }
+
+    // LastEvaluatedKey (followerId, followeeId, 인덱스 조회 시 followedAt) -> 불투명 문자열
+    private static String encodeCursor(Map<String, AttributeValue> lastEvaluatedKey) {
+        if (lastEvaluatedKey == null || lastEvaluatedKey.isEmpty()) {
+            return null;
+        }
+        AttributeValue followedAt = lastEvaluatedKey.get("followedAt");
+        String raw = lastEvaluatedKey.get("followerId").getS() + CURSOR_SEPARATOR
+                + lastEvaluatedKey.get("followeeId").getS() + CURSOR_SEPARATOR
+                + (followedAt != null ? followedAt.getS() : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Map<String, AttributeValue> decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|", -1);
+            Map<String, AttributeValue> key = new HashMap<>();
+            key.put("followerId", new AttributeValue().withS(parts[0]));
+            key.put("followeeId", new AttributeValue().withS(parts[1]));
+            if (!parts[2].isEmpty()) {
+                key.put("followedAt", new AttributeValue().withS(parts[2]));
+            }
+            return key;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -34,13 +34,6 @@ public interface PostRepository extends DynamoDBPagingAndSortingRepository<Post,
     List<Post> findByCreatedAtAfterAndIsActiveTrueOrderByLikesCountDescCommentsCountDesc(
             @Param("createdAt") Instant createdAt, Pageable pageable);
 
-    // 태그별 포스트 조회
-    List<Post> findByTagsContainingAndIsActiveTrueOrderByCreatedAtDesc(
-            @Param("tag") String tag, Pageable pageable);
-
-    Page<Post> findByTagsContainingAndIsActiveTrueOrderByCreatedAtDesc(
-            @Param("tag") String tag, Pageable pageable);
-
     // 인기 포스트 (좋아요 수 기준)
     List<Post> findByIsActiveTrueOrderByLikesCountDescCreatedAtDesc(Pageable pageable);
 
@@ -48,15 +41,10 @@ public interface PostRepository extends DynamoDBPagingAndSortingRepository<Post,
     List<Post> findByCreatedAtAfterAndIsActiveTrueOrderByCreatedAtDesc(
             @Param("createdAt") Instant createdAt, Pageable pageable);
 
-    // 콘텐츠 검색
-    List<Post> findByContentContainingAndIsActiveTrueOrderByCreatedAtDesc(
-            @Param("content") String content, Pageable pageable);
-
     // 통계용 카운트
     Long countByUserIdAndIsActiveTrue(@Param("userId") String userId);
     Long countByUserIdInAndCreatedAtAfterAndIsActiveTrue(
             @Param("userIds") List<String> userIds, @Param("createdAt") Instant createdAt);
-    Long countByTagsContainingAndIsActiveTrue(@Param("tag") String tag);
 
     // 위치별 포스트
     List<Post> findByLocationContainingAndIsActiveTrueOrderByCreatedAtDesc(
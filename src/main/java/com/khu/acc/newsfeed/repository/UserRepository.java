@@ -21,7 +21,5 @@ public interface UserRepository extends DynamoDBPagingAndSortingRepository<User,
 
     Long countByIsActiveTrue();
 
-    List<User> findAllByUsername(String username);
-
     Page<User> findByIsActive(String isActive, Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,481 @@
+package com.khu.acc.newsfeed.search;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 프로세스 내 역색인
+ * <p>
+ * 문서는 증가하는 int ID 로 관리하고, 토큰별 posting 은 정렬된 int 배열(docId, 빈도)로 저장한다.
+ * 문서 갱신 시 기존 ID 는 삭제 표시 후 새 ID 를 부여하며, 삭제 비율이 커지면 ID 를 재배치(compaction)한다.
+ * 질의는 모든 토큰을 포함하는 문서(AND)를 BM25 관련도와 최신성 가중치로 정렬해 상위 K 개를 반환한다.
+ */
+public class InvertedIndex {
+
+    private static final int SNAPSHOT_MAGIC = 0x4E465349; // "NFSI"
+    // 2: 문서 unigram 색인 추가 (이전 스냅샷은 읽지 않고 다시 구축)
+    private static final int SNAPSHOT_VERSION = 2;
+    private static final double BM25_K1 = 1.2;
+    private static final double BM25_B = 0.75;
+    private static final double COMPACT_DEAD_RATIO = 0.3;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final List<String> docKeys = new ArrayList<>();
+    private final Map<String, Integer> docIdsByKey = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private final Map<String, Postings> postingsByToken = new HashMap<>();
+    private long[] timestamps = new long[1024];
+    private int[] docLengths = new int[1024];
+    private int liveCount;
+    private long liveTotalLength;
+    // 변경 감지용 (스냅샷 필요 여부)
+    private volatile long modCount;
+    // 반영된 문서 중 가장 최근 변경 시각 (재시작 후 추가 반영 기준)
+    private volatile long watermark;
+
+    /**
+     * 문서 추가 또는 갱신
+     */
+    public void upsert(String key, String text, long timestamp, long modifiedAt) {
+        List<String> tokens = NgramTokenizer.tokenize(text);
+        Map<String, int[]> frequencies = new HashMap<>();
+        for (String token : tokens) {
+            frequencies.computeIfAbsent(token, t -> new int[1])[0]++;
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(key);
+            if (tokens.isEmpty()) {
+                return;
+            }
+
+            int docId = docKeys.size();
+            docKeys.add(key);
+            docIdsByKey.put(key, docId);
+            ensureCapacity(docId + 1);
+            timestamps[docId] = timestamp;
+            docLengths[docId] = tokens.size();
+            live.set(docId);
+            liveCount++;
+            liveTotalLength += tokens.size();
+
+            frequencies.forEach((token, frequency) ->
+                    postingsByToken.computeIfAbsent(token, t -> new Postings()).add(docId, frequency[0]));
+
+            watermark = Math.max(watermark, modifiedAt);
+            modCount++;
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서 삭제
+     */
+    public void remove(String key, long modifiedAt) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(key);
+            watermark = Math.max(watermark, modifiedAt);
+            modCount++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 질의 토큰을 모두 포함하는 문서를 관련도 + 최신성 기준 상위 limit 개 조회
+     *
+     * @param halfLifeMillis 최신성 점수 반감기
+     * @param recencyWeight  최신성 가중치 (0 ~ 1)
+     */
+    public List<String> search(String query, int limit, long nowMillis, long halfLifeMillis, double recencyWeight) {
+        Set<String> tokens = NgramTokenizer.tokenizeQuery(query);
+        if (tokens.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            Postings[] lists = new Postings[tokens.size()];
+            int index = 0;
+            for (String token : tokens) {
+                Postings postings = postingsByToken.get(token);
+                if (postings == null) {
+                    return Collections.emptyList();
+                }
+                lists[index++] = postings;
+            }
+            // 가장 짧은 posting 부터 교집합
+            Arrays.sort(lists, (p1, p2) -> Integer.compare(p1.size, p2.size));
+
+            double[] idf = new double[lists.length];
+            for (int i = 0; i < lists.length; i++) {
+                idf[i] = Math.log(1 + (liveCount - lists[i].size + 0.5) / (lists[i].size + 0.5));
+            }
+            double avgLength = liveCount > 0 ? (double) liveTotalLength / liveCount : 1.0;
+
+            TopK topK = new TopK(limit);
+            int[] positions = new int[lists.length];
+            Postings shortest = lists[0];
+            candidates:
+            for (int i = 0; i < shortest.size; i++) {
+                int docId = shortest.docIds[i];
+                if (!live.get(docId)) {
+                    continue;
+                }
+
+                double relevance = bm25(idf[0], shortest.frequencies[i], docLengths[docId], avgLength);
+                for (int l = 1; l < lists.length; l++) {
+                    int position = lists[l].seek(docId, positions[l]);
+                    positions[l] = position;
+                    if (position >= lists[l].size || lists[l].docIds[position] != docId) {
+                        continue candidates;
+                    }
+                    relevance += bm25(idf[l], lists[l].frequencies[position], docLengths[docId], avgLength);
+                }
+
+                double age = Math.max(0L, nowMillis - timestamps[docId]);
+                double recency = Math.pow(0.5, age / halfLifeMillis);
+                topK.offer(docId, relevance * (1 - recencyWeight + recencyWeight * recency));
+            }
+
+            int[] ranked = topK.drainDescending();
+            List<String> keys = new ArrayList<>(ranked.length);
+            for (int docId : ranked) {
+                keys.add(docKeys.get(docId));
+            }
+            return keys;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        return liveCount;
+    }
+
+    public long getModCount() {
+        return modCount;
+    }
+
+    public long getWatermark() {
+        return watermark;
+    }
+
+    /**
+     * 스냅샷 저장 (임시 파일 작성 후 원자적 교체)
+     */
+    public void writeSnapshot(Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+
+        lock.readLock().lock();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeLong(watermark);
+
+            // 살아있는 문서만 새 ID 로 재배치해서 저장
+            int[] remap = liveRemap();
+            out.writeInt(liveCount);
+            for (int docId = live.nextSetBit(0); docId >= 0; docId = live.nextSetBit(docId + 1)) {
+                out.writeUTF(docKeys.get(docId));
+                out.writeLong(timestamps[docId]);
+                out.writeInt(docLengths[docId]);
+            }
+
+            out.writeInt(postingsByToken.size());
+            for (Map.Entry<String, Postings> entry : postingsByToken.entrySet()) {
+                Postings postings = entry.getValue();
+                int liveEntries = 0;
+                for (int i = 0; i < postings.size; i++) {
+                    if (remap[postings.docIds[i]] >= 0) {
+                        liveEntries++;
+                    }
+                }
+                out.writeUTF(entry.getKey());
+                out.writeInt(liveEntries);
+                for (int i = 0; i < postings.size; i++) {
+                    int newId = remap[postings.docIds[i]];
+                    if (newId >= 0) {
+                        out.writeInt(newId);
+                        out.writeInt(postings.frequencies[i]);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 스냅샷 로드 (기존 내용 대체)
+     */
+    public void readSnapshot(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                throw new IOException("Unsupported search index snapshot: " + file);
+            }
+
+            lock.writeLock().lock();
+            try {
+                clear();
+                watermark = in.readLong();
+
+                int docCount = in.readInt();
+                ensureCapacity(docCount);
+                for (int docId = 0; docId < docCount; docId++) {
+                    String key = in.readUTF();
+                    docKeys.add(key);
+                    docIdsByKey.put(key, docId);
+                    timestamps[docId] = in.readLong();
+                    docLengths[docId] = in.readInt();
+                    live.set(docId);
+                    liveTotalLength += docLengths[docId];
+                }
+                liveCount = docCount;
+
+                int tokenCount = in.readInt();
+                for (int t = 0; t < tokenCount; t++) {
+                    String token = in.readUTF();
+                    int size = in.readInt();
+                    Postings postings = new Postings(Math.max(1, size));
+                    for (int i = 0; i < size; i++) {
+                        postings.add(in.readInt(), in.readInt());
+                    }
+                    postingsByToken.put(token, postings);
+                }
+                modCount++;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private void removeInternal(String key) {
+        Integer existing = docIdsByKey.remove(key);
+        if (existing != null && live.get(existing)) {
+            live.clear(existing);
+            liveCount--;
+            liveTotalLength -= docLengths[existing];
+        }
+    }
+
+    /**
+     * 삭제 표시된 문서 비율이 임계값을 넘으면 살아있는 문서 ID 를 앞으로 재배치
+     */
+    private void compactIfNeeded() {
+        int total = docKeys.size();
+        if (total < 1024 || total - liveCount < total * COMPACT_DEAD_RATIO) {
+            return;
+        }
+
+        int[] remap = liveRemap();
+        List<String> keys = new ArrayList<>(liveCount);
+        long[] newTimestamps = new long[Math.max(1024, liveCount * 2)];
+        int[] newLengths = new int[newTimestamps.length];
+        for (int docId = live.nextSetBit(0); docId >= 0; docId = live.nextSetBit(docId + 1)) {
+            int newId = remap[docId];
+            keys.add(docKeys.get(docId));
+            newTimestamps[newId] = timestamps[docId];
+            newLengths[newId] = docLengths[docId];
+        }
+
+        postingsByToken.values().removeIf(postings -> postings.remap(remap) == 0);
+
+        docKeys.clear();
+        docKeys.addAll(keys);
+        docIdsByKey.clear();
+        for (int docId = 0; docId < keys.size(); docId++) {
+            docIdsByKey.put(keys.get(docId), docId);
+        }
+        live.clear();
+        live.set(0, keys.size());
+        timestamps = newTimestamps;
+        docLengths = newLengths;
+    }
+
+    private int[] liveRemap() {
+        int[] remap = new int[docKeys.size()];
+        int next = 0;
+        for (int docId = 0; docId < remap.length; docId++) {
+            remap[docId] = live.get(docId) ? next++ : -1;
+        }
+        return remap;
+    }
+
+    private void clear() {
+        docKeys.clear();
+        docIdsByKey.clear();
+        live.clear();
+        postingsByToken.clear();
+        liveCount = 0;
+        liveTotalLength = 0;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > timestamps.length) {
+            int newCapacity = Math.max(capacity, timestamps.length * 2);
+            timestamps = Arrays.copyOf(timestamps, newCapacity);
+            docLengths = Arrays.copyOf(docLengths, newCapacity);
+        }
+    }
+
+    private static double bm25(double idf, int frequency, int docLength, double avgLength) {
+        double norm = BM25_K1 * (1 - BM25_B + BM25_B * docLength / avgLength);
+        return idf * (frequency * (BM25_K1 + 1)) / (frequency + norm);
+    }
+
+    /**
+     * 토큰별 posting (docId 오름차순 int 배열 + 빈도 배열)
+     */
+    private static final class Postings {
+        private int[] docIds;
+        private int[] frequencies;
+        private int size;
+
+        private Postings() {
+            this(4);
+        }
+
+        private Postings(int capacity) {
+            docIds = new int[capacity];
+            frequencies = new int[capacity];
+        }
+
+        private void add(int docId, int frequency) {
+            if (size == docIds.length) {
+                docIds = Arrays.copyOf(docIds, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            docIds[size] = docId;
+            frequencies[size] = frequency;
+            size++;
+        }
+
+        /**
+         * from 위치부터 docId 이상인 첫 위치 (지수 탐색 + 이진 탐색)
+         */
+        private int seek(int docId, int from) {
+            int bound = 1;
+            while (from + bound < size && docIds[from + bound] < docId) {
+                bound <<= 1;
+            }
+            int low = from + (bound >> 1);
+            int high = Math.min(from + bound, size);
+            int position = Arrays.binarySearch(docIds, low, high, docId);
+            return position >= 0 ? position : -position - 1;
+        }
+
+        /**
+         * 재배치 맵 적용 (삭제 문서 제거), 남은 항목 수 반환
+         */
+        private int remap(int[] remap) {
+            int write = 0;
+            for (int read = 0; read < size; read++) {
+                int newId = remap[docIds[read]];
+                if (newId >= 0) {
+                    docIds[write] = newId;
+                    frequencies[write] = frequencies[read];
+                    write++;
+                }
+            }
+            size = write;
+            return size;
+        }
+    }
+
+    /**
+     * 크기 K 최소 힙 기반 상위 K 선택 (primitive 배열)
+     */
+    private static final class TopK {
+        private final int[] docIds;
+        private final double[] scores;
+        private int size;
+
+        private TopK(int capacity) {
+            docIds = new int[capacity];
+            scores = new double[capacity];
+        }
+
+        private void offer(int docId, double score) {
+            if (size < docIds.length) {
+                docIds[size] = docId;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (score > scores[0]) {
+                docIds[0] = docId;
+                scores[0] = score;
+                siftDown(0);
+            }
+        }
+
+        private int[] drainDescending() {
+            int[] result = new int[size];
+            for (int i = size - 1; i >= 0; i--) {
+                result[i] = docIds[0];
+                size--;
+                docIds[0] = docIds[size];
+                scores[0] = scores[size];
+                siftDown(0);
+            }
+            return result;
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (scores[index] >= scores[parent]) {
+                    return;
+                }
+                swap(index, parent);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int left = 2 * index + 1;
+                if (left >= size) {
+                    return;
+                }
+                int smallest = left + 1 < size && scores[left + 1] < scores[left] ? left + 1 : left;
+                if (scores[index] <= scores[smallest]) {
+                    return;
+                }
+                swap(index, smallest);
+                index = smallest;
+            }
+        }
+
+        private void swap(int i, int j) {
+            int docId = docIds[i];
+            docIds[i] = docIds[j];
+            docIds[j] = docId;
+            double score = scores[i];
+            scores[i] = scores[j];
+            scores[j] = score;
+        }
+    }
+}
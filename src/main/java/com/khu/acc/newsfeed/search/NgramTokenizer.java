@@ -0,0 +1,84 @@
+package com.khu.acc.newsfeed.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색용 n-gram 토크나이저
+ * <p>
+ * NFKC 정규화 + 소문자 변환 후 문자/숫자 연속 구간을 bigram 으로 분해한다.
+ * 형태소 분석 없이도 한국어 부분 문자열 검색이 가능하도록 모든 문자 체계에 동일하게 적용한다.
+ * 문서는 bigram 과 함께 글자별 unigram 도 색인해 1글자 질의("밥")가 더 긴 단어("밥집", "집밥")에도 일치하게 하고,
+ * 질의는 2글자 이상 구간이면 bigram 만, 1글자 구간이면 unigram 으로 분해한다.
+ */
+public final class NgramTokenizer {
+
+    private static final int GRAM_SIZE = 2;
+
+    private NgramTokenizer() {
+    }
+
+    /**
+     * 문서 토큰화 (bigram + unigram, 중복 포함, 빈도 계산용)
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        forEachWord(text, (codePoints, start, end) -> {
+            emitBigrams(codePoints, start, end, tokens);
+            if (end - start >= GRAM_SIZE) {
+                for (int i = start; i < end; i++) {
+                    tokens.add(new String(codePoints, i, 1));
+                }
+            }
+        });
+        return tokens;
+    }
+
+    /**
+     * 질의 토큰화 (1글자 구간만 unigram, 중복 제거)
+     */
+    public static Set<String> tokenizeQuery(String query) {
+        List<String> tokens = new ArrayList<>();
+        forEachWord(query, (codePoints, start, end) -> emitBigrams(codePoints, start, end, tokens));
+        return new LinkedHashSet<>(tokens);
+    }
+
+    private static void forEachWord(String text, WordConsumer consumer) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int[] codePoints = normalized.codePoints().toArray();
+
+        int start = -1;
+        for (int i = 0; i <= codePoints.length; i++) {
+            boolean wordChar = i < codePoints.length && Character.isLetterOrDigit(codePoints[i]);
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                consumer.accept(codePoints, start, i);
+                start = -1;
+            }
+        }
+    }
+
+    private static void emitBigrams(int[] codePoints, int start, int end, List<String> tokens) {
+        if (end - start < GRAM_SIZE) {
+            tokens.add(new String(codePoints, start, end - start));
+            return;
+        }
+        for (int i = start; i + GRAM_SIZE <= end; i++) {
+            tokens.add(new String(codePoints, i, GRAM_SIZE));
+        }
+    }
+
+    @FunctionalInterface
+    private interface WordConsumer {
+        void accept(int[] codePoints, int start, int end);
+    }
+}
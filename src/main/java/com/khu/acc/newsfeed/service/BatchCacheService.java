@@ -0,0 +1,188 @@
+package com.khu.acc.newsfeed.service;
+
+import com.khu.acc.newsfeed.config.CoalescingCache;
+import com.khu.acc.newsfeed.config.TwoTierCache;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 여러 캐시 키 일괄 조회/저장
+ * <p>
+ * {@code @Cacheable} 은 키 하나당 Redis 왕복 1회가 필요하므로, 한 응답에 필요한 키를 모아 MGET 한 번으로 읽고
+ * 미스를 채울 때는 SET 을 파이프라인으로 묶어 한 번에 보낸다. 키 형식과 값 직렬화는 RedisConfig 의 캐시 설정을 그대로 따르므로
+ * 같은 캐시의 {@code @Cacheable} 조회와 항목을 공유한다.
+ * L1(인스턴스 내 캐시)이 설정된 캐시는 {@code @Cacheable} 과 같이 L1 을 먼저 읽고, Redis 에서 읽거나 채운 값을 L1 에 넣는다.
+ * 호출당 Redis 왕복 수와 왕복당 키 수는 cache.batch.* 지표로 기록한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchCacheService {
+
+    private final RedisCacheManager redisCacheManager;
+    // 애플리케이션 CacheManager (L1 이 설정된 캐시를 찾는 용도)
+    private final CacheManager cacheManager;
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 캐시에서 여러 키 조회 (L1 미스만 Redis 왕복 1회, 없는 키와 타입이 다른 값은 결과에서 제외)
+     * <p>
+     * Redis 오류 시 L1 에서 찾은 값만 반환해 나머지는 호출자가 원본에서 읽도록 한다.
+     */
+    public <T> Map<String, T> getAll(String cacheName, Collection<String> keys, Class<T> type) {
+        List<String> distinctKeys = keys.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+        if (distinctKeys.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        // 1. L1 조회
+        Map<String, T> found = new HashMap<>();
+        TwoTierCache nearCache = nearCache(cacheName);
+        if (nearCache != null) {
+            nearCache.getAllPresentLocal(distinctKeys).forEach((key, cached) -> {
+                if (type.isInstance(cached)) {
+                    found.put(key, type.cast(cached));
+                }
+            });
+            distinctKeys.removeIf(found::containsKey);
+            if (distinctKeys.isEmpty()) {
+                return found;
+            }
+        }
+
+        // 2. 나머지는 Redis MGET
+        RedisCacheConfiguration cacheConfig = cacheConfig(cacheName);
+        byte[][] rawKeys = distinctKeys.stream()
+                .map(key -> rawKey(cacheConfig, cacheName, key))
+                .toArray(byte[][]::new);
+
+        List<byte[]> values;
+        try (RedisConnection connection = redisConnectionFactory.getConnection()) {
+            values = connection.stringCommands().mGet(rawKeys);
+        } catch (Exception e) {
+            log.warn("Cache multi-get on {} failed for {} keys", cacheName, distinctKeys.size(), e);
+            return found;
+        }
+        recordRoundTrip(cacheName, "getAll", distinctKeys.size());
+
+        Map<String, T> remote = new HashMap<>();
+        for (int i = 0; i < distinctKeys.size(); i++) {
+            byte[] value = values != null ? values.get(i) : null;
+            Object cached = value != null
+                    ? cacheConfig.getValueSerializationPair().read(ByteBuffer.wrap(value))
+                    : null;
+            if (type.isInstance(cached)) {
+                remote.put(distinctKeys.get(i), type.cast(cached));
+            }
+        }
+        if (nearCache != null) {
+            nearCache.putAllLocal(remote);
+        }
+        found.putAll(remote);
+        return found;
+    }
+
+    /**
+     * 여러 값을 캐시 기본 TTL 로 저장 (파이프라인, Redis 왕복 1회)
+     */
+    public void putAll(String cacheName, Map<String, ?> values) {
+        Duration ttl = cacheConfig(cacheName).getTtl();
+        putAll(cacheName, values, key -> ttl);
+    }
+
+    /**
+     * 여러 값을 키별 TTL 로 저장 (파이프라인, Redis 왕복 1회, L1 이 설정된 캐시는 L1 에도 반영)
+     * <p>
+     * 저장 실패는 캐시 미스와 같으므로 기록만 하고 넘어간다.
+     */
+    public void putAll(String cacheName, Map<String, ?> values, Function<String, Duration> ttlByKey) {
+        if (values.isEmpty()) {
+            return;
+        }
+
+        RedisCacheConfiguration cacheConfig = cacheConfig(cacheName);
+        try (RedisConnection connection = redisConnectionFactory.getConnection()) {
+            connection.openPipeline();
+            values.forEach((key, value) -> {
+                if (value == null) {
+                    return;
+                }
+                ByteBuffer serialized = cacheConfig.getValueSerializationPair().write(value);
+                byte[] bytes = new byte[serialized.remaining()];
+                serialized.get(bytes);
+                connection.stringCommands().set(rawKey(cacheConfig, cacheName, key), bytes,
+                        Expiration.from(ttlByKey.apply(key)), RedisStringCommands.SetOption.upsert());
+            });
+            connection.closePipeline();
+            recordRoundTrip(cacheName, "putAll", values.size());
+        } catch (Exception e) {
+            log.warn("Failed to populate cache {} with {} entries", cacheName, values.size(), e);
+            return;
+        }
+
+        TwoTierCache nearCache = nearCache(cacheName);
+        if (nearCache != null) {
+            nearCache.putAllLocal(values);
+        }
+    }
+
+    /**
+     * 캐시의 L1 (L1 이 설정되지 않은 캐시면 null)
+     */
+    private TwoTierCache nearCache(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache instanceof CoalescingCache coalescing) {
+            cache = coalescing.getDelegate();
+        }
+        return cache instanceof TwoTierCache twoTier ? twoTier : null;
+    }
+
+    private RedisCacheConfiguration cacheConfig(String cacheName) {
+        RedisCacheConfiguration cacheConfig = redisCacheManager.getCacheConfigurations().get(cacheName);
+        if (cacheConfig == null) {
+            throw new IllegalArgumentException("Unknown cache: " + cacheName);
+        }
+        return cacheConfig;
+    }
+
+    private static byte[] rawKey(RedisCacheConfiguration cacheConfig, String cacheName, String key) {
+        return (cacheConfig.getKeyPrefixFor(cacheName) + key).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void recordRoundTrip(String cacheName, String operation, int keys) {
+        meterRegistry.counter("cache.batch.round.trips", "cache", cacheName, "operation", operation).increment();
+        DistributionSummary.builder("cache.batch.keys")
+                .description("Keys per batched Redis round trip")
+                .tag("cache", cacheName)
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .record(keys);
+    }
+}
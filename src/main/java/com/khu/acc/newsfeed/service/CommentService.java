@@ -1,11 +1,93 @@
 package com.khu.acc.newsfeed.service;
 
+import com.khu.acc.newsfeed.dto.CommentCreateRequest;
+import com.khu.acc.newsfeed.event.PostEngagementEvent;
+import com.khu.acc.newsfeed.exception.ResourceNotFoundException;
+import com.khu.acc.newsfeed.model.Comment;
+import com.khu.acc.newsfeed.model.Post;
+import com.khu.acc.newsfeed.repository.CommentRepository;
+import com.khu.acc.newsfeed.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.UUID;
+
+@Slf4j
 @Transactional
 @Service
 @RequiredArgsConstructor
 public class CommentService {
+
+    private final CommentRepository commentRepository;
+    private final PostRepository postRepository;
+    private final CounterBufferService counterBufferService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 댓글 작성
+     */
+    public Comment createComment(String userId, CommentCreateRequest request) {
+        Post post = postRepository.findById(request.getPostId())
+                .orElseThrow(() -> ResourceNotFoundException.post(request.getPostId()));
+
+        Instant now = Instant.now();
+        Comment comment = Comment.builder()
+                .commentId(generateCommentId())
+                .postId(post.getPostId())
+                .userId(userId)
+                .content(request.getContent())
+                .parentCommentId(request.getParentCommentId())
+                .likesCount(0L)
+                .isActive(true)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        Comment savedComment = commentRepository.save(comment);
+
+        counterBufferService.increment(CounterService.Counter.POST_COMMENTS, post.getPostId());
+
+        eventPublisher.publishEvent(PostEngagementEvent.of(post, userId, PostEngagementEvent.Type.COMMENT));
+
+        log.info("User {} commented on post {}", userId, post.getPostId());
+        return savedComment;
+    }
+
+    /**
+     * 댓글 삭제 (작성자만 가능, 비활성화로 처리)
+     */
+    public void deleteComment(String userId, String commentId) {
+        Comment comment = commentRepository.findById(commentId)
+                .filter(c -> Boolean.TRUE.equals(c.getIsActive()))
+                .orElseThrow(() -> ResourceNotFoundException.comment(commentId));
+
+        if (!comment.getUserId().equals(userId)) {
+            throw new AccessDeniedException("Only the author can delete this comment");
+        }
+
+        comment.setIsActive(false);
+        comment.setUpdatedAt(Instant.now());
+        commentRepository.save(comment);
+
+        counterBufferService.decrement(CounterService.Counter.POST_COMMENTS, comment.getPostId());
+
+        // 취소는 원래 댓글 시각 기준으로 프로필 점수를 되돌림 (삭제된 포스트면 작성자/태그 없이)
+        PostEngagementEvent event = postRepository.findById(comment.getPostId())
+                .map(post -> PostEngagementEvent.of(post, userId, PostEngagementEvent.Type.UNCOMMENT))
+                .orElseGet(() -> PostEngagementEvent.of(comment.getPostId(), userId, PostEngagementEvent.Type.UNCOMMENT));
+        eventPublisher.publishEvent(event.undoing(comment.getCreatedAt()));
+
+        log.info("User {} deleted comment {} on post {}", userId, commentId, comment.getPostId());
+    }
+
+    /**
+     * Comment ID 생성
+     */
+    private String generateCommentId() {
+        return "comment_" + UUID.randomUUID().toString().replace("-", "");
+    }
 }
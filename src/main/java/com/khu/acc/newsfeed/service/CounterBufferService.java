@@ -0,0 +1,286 @@
+package com.khu.acc.newsfeed.service;
+
+import com.khu.acc.newsfeed.dto.PostResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 인기 포스트 카운터 지연 쓰기 (write-behind)
+ * <p>
+ * 좋아요/댓글마다 같은 Posts 항목을 갱신하면 인기 포스트 하나에 쓰기가 몰리므로,
+ * 카운터별 delta 를 인스턴스 메모리의 LongAdder 에 모았다가 주기 또는 버퍼 크기 기준으로 카운터당 ADD 한 번으로 반영한다.
+ * 아직 반영되지 않은 delta 는 Redis(counter:pending:*)에도 더해 두어 어느 인스턴스에서 읽든 응답에 포함되게 하고,
+ * 반영이 끝나면 그만큼 뺀다. 종료 시에는 진행 중인 반영을 기다린 뒤 남은 delta 를 모두 반영한다.
+ * 0 하한이나 항목 없음으로 거절된 delta 는 아직 반영되지 않은 것이므로 버퍼에 되돌려 다음 주기에 다시 시도하고
+ * (다른 인스턴스의 증가가 먼저 반영되면 통과함), 정해진 횟수를 넘으면 버리고 그때 Redis 의 미반영 값에서 뺀다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CounterBufferService {
+
+    private static final String PENDING_KEY_PREFIX = "counter:pending:";
+    // 거절된 delta 를 버리기 전까지 다시 시도하는 횟수
+    private static final int MAX_REJECTIONS = 3;
+
+    private final CounterService counterService;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // 버퍼에 쌓인 카운터 수가 이 값을 넘으면 주기를 기다리지 않고 반영
+    @Value("${app.counters.write-behind.max-pending-keys:10000}")
+    private int maxPendingKeys;
+
+    // 반영되지 않은 delta 의 Redis 보관 시간 (인스턴스 비정상 종료 시 남은 값 정리)
+    @Value("${app.counters.write-behind.pending-ttl:10m}")
+    private Duration pendingTtl;
+
+    private final ConcurrentHashMap<PendingKey, LongAdder> deltas = new ConcurrentHashMap<>();
+    // 직전 반영에서 버퍼에서 뺀 누산기 (제거 직전에 참조를 얻은 쓰기를 한 주기 뒤에 회수)
+    private List<Map.Entry<PendingKey, LongAdder>> retired = new ArrayList<>();
+    // 카운터별 연속 거절 횟수 (flushLock 안에서만 접근)
+    private final Map<PendingKey, Integer> rejections = new HashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private ExecutorService flushExecutor;
+
+    @PostConstruct
+    void init() {
+        flushExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(1),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "counter-flush");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.DiscardPolicy());
+
+        Gauge.builder("counter.buffer.pending.keys", deltas, Map::size)
+                .description("Counters with buffered deltas")
+                .register(meterRegistry);
+        Gauge.builder("counter.buffer.pending.deltas", this, CounterBufferService::pendingDeltas)
+                .description("Absolute sum of buffered counter deltas")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 종료 시 남은 delta 반영 (진행 중인 반영이 있으면 끝날 때까지 대기)
+     */
+    @PreDestroy
+    void shutdown() {
+        flushExecutor.shutdown();
+        flushLock.lock();
+        try {
+            recordFlush();
+            if (!retired.isEmpty()) {
+                recordFlush();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 카운터 delta 적재 (즉시 반환, DynamoDB 반영은 나중에 한 번에)
+     */
+    public void add(CounterService.Counter counter, String id, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        deltas.computeIfAbsent(new PendingKey(counter, id), key -> new LongAdder()).add(delta);
+
+        String pendingKey = pendingKey(counter, id);
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                redis.incrBy(pendingKey, delta);
+                redis.expire(pendingKey, pendingTtl.toSeconds());
+                return null;
+            });
+        } catch (Exception e) {
+            // 반영 전까지 다른 인스턴스 응답에 보이지 않을 뿐 카운트는 유지됨
+            log.debug("Failed to record pending delta for {}", pendingKey, e);
+        }
+
+        if (deltas.size() >= maxPendingKeys) {
+            flushExecutor.execute(this::flush);
+        }
+    }
+
+    public void increment(CounterService.Counter counter, String id) {
+        add(counter, id, 1);
+    }
+
+    public void decrement(CounterService.Counter counter, String id) {
+        add(counter, id, -1);
+    }
+
+    /**
+     * 응답의 좋아요/댓글 수에 아직 반영되지 않은 delta 더하기 (Redis 왕복 1회)
+     */
+    public void applyPending(List<PostResponse> responses) {
+        if (responses.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(responses.size() * 2);
+        for (PostResponse response : responses) {
+            keys.add(pendingKey(CounterService.Counter.POST_LIKES, response.getPostId()));
+            keys.add(pendingKey(CounterService.Counter.POST_COMMENTS, response.getPostId()));
+        }
+
+        List<String> values;
+        try {
+            values = stringRedisTemplate.opsForValue().multiGet(keys);
+        } catch (Exception e) {
+            log.warn("Failed to read pending counter deltas", e);
+            return;
+        }
+        if (values == null) {
+            return;
+        }
+
+        for (int i = 0; i < responses.size(); i++) {
+            PostResponse response = responses.get(i);
+            response.setLikesCount(withPending(response.getLikesCount(), values.get(i * 2)));
+            response.setCommentsCount(withPending(response.getCommentsCount(), values.get(i * 2 + 1)));
+        }
+    }
+
+    /**
+     * 버퍼에 쌓인 delta 를 카운터당 ADD 한 번으로 반영
+     */
+    @Scheduled(fixedDelayString = "${app.counters.write-behind.flush-interval-ms:1000}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            recordFlush();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void recordFlush() {
+        Timer.builder("counter.buffer.flush")
+                .description("Write-behind counter flush latency")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry)
+                .record(this::drain);
+    }
+
+    private void drain() {
+        Map<PendingKey, Long> batch = new HashMap<>();
+        for (Map.Entry<PendingKey, LongAdder> entry : retired) {
+            long delta = take(entry.getValue());
+            if (delta != 0) {
+                batch.merge(entry.getKey(), delta, Long::sum);
+            }
+        }
+        retired = new ArrayList<>();
+
+        for (Map.Entry<PendingKey, LongAdder> entry : deltas.entrySet()) {
+            long delta = take(entry.getValue());
+            if (delta != 0) {
+                batch.merge(entry.getKey(), delta, Long::sum);
+            } else if (deltas.remove(entry.getKey(), entry.getValue())) {
+                // 한 주기 동안 변화가 없던 카운터는 버퍼에서 제거
+                retired.add(entry);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        // Redis 미반영 값에서 뺄 delta (반영했거나 버린 것만)
+        Map<String, Long> flushed = new HashMap<>();
+        batch.forEach((key, delta) -> {
+            try {
+                if (counterService.add(key.counter(), key.id(), delta).isPresent()) {
+                    rejections.remove(key);
+                    flushed.put(pendingKey(key.counter(), key.id()), delta);
+                    meterRegistry.counter("counter.buffer.flushed").increment();
+                } else if (rejections.merge(key, 1, Integer::sum) < MAX_REJECTIONS) {
+                    // 0 하한/항목 없음으로 거절됨 (다음 주기에 다시 반영)
+                    deltas.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+                } else {
+                    rejections.remove(key);
+                    flushed.put(pendingKey(key.counter(), key.id()), delta);
+                    meterRegistry.counter("counter.buffer.discarded").increment();
+                    log.warn("Discarded {} delta {} for {} after {} rejections",
+                            key.counter(), delta, key.id(), MAX_REJECTIONS);
+                }
+            } catch (Exception e) {
+                // 다음 주기에 다시 반영
+                log.warn("Failed to flush {} delta {} for {}", key.counter(), delta, key.id(), e);
+                deltas.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+            }
+        });
+
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                flushed.forEach((pendingKey, delta) -> redis.decrBy(pendingKey, delta));
+                return null;
+            });
+        } catch (Exception e) {
+            // 남은 값은 TTL 로 정리됨
+            log.warn("Failed to clear {} pending counter deltas", flushed.size(), e);
+        }
+    }
+
+    /**
+     * 누산기에서 현재 값만큼 빼고 반환 (sumThenReset 은 동시에 더해진 값을 잃을 수 있음)
+     */
+    private static long take(LongAdder adder) {
+        long delta = adder.sum();
+        if (delta != 0) {
+            adder.add(-delta);
+        }
+        return delta;
+    }
+
+    private double pendingDeltas() {
+        long total = 0;
+        for (LongAdder adder : deltas.values()) {
+            total += Math.abs(adder.sum());
+        }
+        return total;
+    }
+
+    private static Long withPending(Long persisted, String pending) {
+        if (pending == null) {
+            return persisted;
+        }
+        long value = (persisted != null ? persisted : 0L) + Long.parseLong(pending);
+        return Math.max(0L, value);
+    }
+
+    private static String pendingKey(CounterService.Counter counter, String id) {
+        return PENDING_KEY_PREFIX + counter.getAttribute() + ":" + id;
+    }
+
+    private record PendingKey(CounterService.Counter counter, String id) {}
+}
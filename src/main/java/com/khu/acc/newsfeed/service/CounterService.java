@@ -0,0 +1,129 @@
+package com.khu.acc.newsfeed.service;
+
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.ConditionalCheckFailedException;
+import com.amazonaws.services.dynamodbv2.model.ReturnValue;
+import com.amazonaws.services.dynamodbv2.model.UpdateItemRequest;
+import com.amazonaws.services.dynamodbv2.model.UpdateItemResult;
+import com.khu.acc.newsfeed.model.Post;
+import com.khu.acc.newsfeed.model.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * 사용자/포스트 카운터 원자적 갱신
+ * <p>
+ * 항목을 읽어 메모리에서 더한 뒤 전체를 저장하는 대신 UpdateItem 의 ADD 식으로 카운터 하나당 한 번에 반영한다.
+ * 존재하지 않는 항목은 만들지 않으며, 감소는 조건식으로 0 아래로 내려가지 않게 막는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CounterService {
+
+    private final AmazonDynamoDB amazonDynamoDB;
+    private final DynamoDBMapperConfig dynamoDBMapperConfig;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 갱신 대상 카운터 (테이블, 키 속성, 카운터 속성)
+     */
+    public enum Counter {
+        USER_FOLLOWERS(User.class, "userId", "followersCount"),
+        USER_FOLLOWING(User.class, "userId", "followingCount"),
+        USER_POSTS(User.class, "userId", "postsCount"),
+        POST_LIKES(Post.class, "postId", "likesCount"),
+        POST_COMMENTS(Post.class, "postId", "commentsCount");
+
+        private final Class<?> type;
+        private final String keyAttribute;
+        private final String attribute;
+
+        Counter(Class<?> type, String keyAttribute, String attribute) {
+            this.type = type;
+            this.keyAttribute = keyAttribute;
+            this.attribute = attribute;
+        }
+
+        public String getAttribute() {
+            return attribute;
+        }
+    }
+
+    /**
+     * 카운터에 delta 반영 (감소는 0 아래로 내려가지 않음)
+     *
+     * @return 반영 후 값, 항목이 없거나 0 하한에 걸려 반영하지 않았으면 empty
+     */
+    public OptionalLong add(Counter counter, String id, long delta) {
+        return add(counter, id, delta, true);
+    }
+
+    /**
+     * 카운터에 delta 반영
+     *
+     * @param floorAtZero true 면 감소 결과가 음수가 되는 경우 반영하지 않음
+     */
+    public OptionalLong add(Counter counter, String id, long delta, boolean floorAtZero) {
+        if (delta == 0) {
+            return OptionalLong.empty();
+        }
+
+        Map<String, String> names = new HashMap<>();
+        names.put("#key", counter.keyAttribute);
+        names.put("#count", counter.attribute);
+        Map<String, AttributeValue> values = new HashMap<>();
+        values.put(":delta", new AttributeValue().withN(Long.toString(delta)));
+
+        // 항목이 없을 때 ADD 가 새 항목을 만들지 않도록 키 존재를 조건으로 둠
+        String condition = "attribute_exists(#key)";
+        if (floorAtZero && delta < 0) {
+            condition += " AND (attribute_not_exists(#count) OR #count >= :floor)";
+            values.put(":floor", new AttributeValue().withN(Long.toString(-delta)));
+        }
+
+        UpdateItemRequest request = new UpdateItemRequest()
+                .withTableName(tableName(counter))
+                .withKey(Map.of(counter.keyAttribute, new AttributeValue().withS(id)))
+                .withUpdateExpression("ADD #count :delta")
+                .withConditionExpression(condition)
+                .withExpressionAttributeNames(names)
+                .withExpressionAttributeValues(values)
+                .withReturnValues(ReturnValue.UPDATED_NEW);
+
+        try {
+            UpdateItemResult result = amazonDynamoDB.updateItem(request);
+            record(counter, "applied");
+            AttributeValue updated = result.getAttributes() != null ? result.getAttributes().get(counter.attribute) : null;
+            return updated != null ? OptionalLong.of(Long.parseLong(updated.getN())) : OptionalLong.empty();
+        } catch (ConditionalCheckFailedException e) {
+            record(counter, "rejected");
+            log.debug("Skipped {} update of {} by {} (missing item or below zero)", counter, id, delta);
+            return OptionalLong.empty();
+        }
+    }
+
+    public OptionalLong increment(Counter counter, String id) {
+        return add(counter, id, 1);
+    }
+
+    public OptionalLong decrement(Counter counter, String id) {
+        return add(counter, id, -1);
+    }
+
+    private void record(Counter counter, String result) {
+        meterRegistry.counter("counter.updates", "counter", counter.name(), "result", result).increment();
+    }
+
+    private String tableName(Counter counter) {
+        return DynamoDBMapperConfig.DefaultTableNameResolver.INSTANCE.getTableName(counter.type, dynamoDBMapperConfig);
+    }
+}
@@ -0,0 +1,75 @@
+package com.khu.acc.newsfeed.service;
+
+import com.khu.acc.newsfeed.model.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * 하이브리드 push/pull 피드 전달 정책
+ * <p>
+ * 팔로워 수가 임계값 이상인 작성자는 fan-out 하지 않고 조회 시점에 pull 한다.
+ * 임계값은 Redis 에 저장되어 런타임에 모든 인스턴스가 함께 변경된다. (0 이하면 하이브리드 비활성화)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FanOutPolicy {
+
+    private static final String THRESHOLD_KEY = "feed:config:fanout-threshold";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${app.feed.timeline.celebrity-threshold:10000}")
+    private long defaultThreshold;
+
+    private volatile long threshold;
+
+    @PostConstruct
+    void init() {
+        threshold = defaultThreshold;
+        syncThreshold();
+    }
+
+    /**
+     * fan-out 대상에서 제외되는 작성자인지 확인
+     */
+    public boolean isPullAuthor(User author) {
+        long current = threshold;
+        long followersCount = author.getFollowersCount() != null ? author.getFollowersCount() : 0L;
+        return current > 0 && followersCount >= current;
+    }
+
+    public long getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * 임계값 변경 (전체 인스턴스에 반영)
+     */
+    public void updateThreshold(long newThreshold) {
+        stringRedisTemplate.opsForValue().set(THRESHOLD_KEY, String.valueOf(newThreshold));
+        threshold = newThreshold;
+        log.info("Fan-out follower threshold changed to {}", newThreshold);
+    }
+
+    /**
+     * 다른 인스턴스에서 변경된 임계값 동기화
+     */
+    @Scheduled(fixedDelayString = "${app.feed.timeline.threshold-sync-interval-ms:30000}")
+    public void syncThreshold() {
+        try {
+            String value = stringRedisTemplate.opsForValue().get(THRESHOLD_KEY);
+            if (value != null) {
+                threshold = Long.parseLong(value);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to sync fan-out threshold, keeping {}", threshold, e);
+        }
+    }
+}
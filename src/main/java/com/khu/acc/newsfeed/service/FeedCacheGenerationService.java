@@ -0,0 +1,80 @@
+package com.khu.acc.newsfeed.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 피드 캐시 세대(generation) 관리
+ * <p>
+ * newsFeed/userFeed 캐시 키에 전역 세대와 사용자별 세대를 포함시켜, 무효화를 키 삭제 대신 INCR 한 번으로 처리한다.
+ * 세대가 바뀌면 이전 키는 더 이상 조회되지 않고 캐시 TTL 로 자연 만료되므로 KEYS/SCAN 삭제가 필요 없다.
+ * 세대 카운터는 만료시키지 않는다. (만료 후 같은 값으로 되돌아가면 이전 세대 항목이 다시 조회될 수 있음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FeedCacheGenerationService {
+
+    private static final String GLOBAL_GENERATION_KEY = "feed:gen:global";
+    private static final String USER_GENERATION_KEY_PREFIX = "feed:gen:user:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 현재 세대를 포함한 피드 캐시 키 (@Cacheable key SpEL 에서 사용, Redis 왕복 1회)
+     * <p>
+     * 형식: {userId}:{전역 세대}.{사용자 세대}_{suffix}
+     */
+    public String versionedKey(String userId, Object suffix) {
+        List<String> generations = stringRedisTemplate.opsForValue()
+                .multiGet(List.of(GLOBAL_GENERATION_KEY, USER_GENERATION_KEY_PREFIX + userId));
+        return userId + ":" + generationOf(generations, 0) + "." + generationOf(generations, 1) + "_" + suffix;
+    }
+
+    /**
+     * 피드 캐시 키에서 사용자 ID 와 suffix 추출 (미리 갱신 재계산용, 형식이 다르면 null)
+     */
+    public static VersionedKey parse(Object key) {
+        String value = String.valueOf(key);
+        int colon = value.lastIndexOf(':');
+        int underscore = colon > 0 ? value.indexOf('_', colon) : -1;
+        if (underscore < 0) {
+            return null;
+        }
+        return new VersionedKey(value.substring(0, colon), value.substring(underscore + 1));
+    }
+
+    /**
+     * 피드 캐시 키 구성 요소
+     */
+    public record VersionedKey(String userId, String suffix) {
+    }
+
+    /**
+     * 사용자 피드 캐시 무효화 (사용자 세대 증가)
+     */
+    public void invalidate(String userId) {
+        stringRedisTemplate.opsForValue().increment(USER_GENERATION_KEY_PREFIX + userId);
+        meterRegistry.counter("feed.cache.invalidations", "scope", "user").increment();
+    }
+
+    /**
+     * 전체 피드 캐시 무효화 (전역 세대 증가)
+     */
+    public void invalidateAll() {
+        Long generation = stringRedisTemplate.opsForValue().increment(GLOBAL_GENERATION_KEY);
+        meterRegistry.counter("feed.cache.invalidations", "scope", "all").increment();
+        log.info("Advanced global feed cache generation to {}", generation);
+    }
+
+    private static String generationOf(List<String> generations, int index) {
+        String value = generations != null ? generations.get(index) : null;
+        return value != null ? value : "0";
+    }
+}
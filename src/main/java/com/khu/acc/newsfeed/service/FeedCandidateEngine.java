@@ -0,0 +1,246 @@
+package com.khu.acc.newsfeed.service;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBQueryExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.QueryResultPage;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.khu.acc.newsfeed.dto.FeedCursor;
+import com.khu.acc.newsfeed.model.Post;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 팔로잉 피드 후보 조회 엔진
+ * <p>
+ * userId IN (...) 스캔 대신 작성자별로 UserPostsIndex(userId HASH, createdAt RANGE)에
+ * 크기가 제한된 Query 를 동시에 보내고, createdAt 기준 힙 기반 k-way 병합으로
+ * 한 페이지가 채워지는 즉시 중단한다. 읽기 용량과 지연 시간은 테이블 크기가 아닌 페이지 크기에 비례한다.
+ * 첫 페이지 조회는 제한 시간까지만 기다리며, 시간 초과나 호출 스레드 인터럽트(조립 마감 시 단계 취소) 시
+ * 남은 Query 를 인터럽트로 취소하고 예외로 끝낸다. 일부 작성자만 병합하면 다음 커서가 누락된 포스트를 건너뛰기 때문이다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedCandidateEngine {
+
+    private static final String USER_POSTS_INDEX = "UserPostsIndex";
+    private static final int MAX_EMPTY_PAGE_FETCHES = 3;
+
+    private final DynamoDBMapper dynamoDBMapper;
+
+    // 작성자별 Query 동시 실행 스레드 수
+    @Value("${app.feed.candidates.query-concurrency:16}")
+    private int queryConcurrency;
+
+    // 작성자별 Query 1회당 최대 아이템 수
+    @Value("${app.feed.candidates.max-page-size-per-author:50}")
+    private int maxPageSizePerAuthor;
+
+    // 작성자별 첫 페이지 조회 전체 제한 시간
+    @Value("${app.feed.candidates.query-timeout:2s}")
+    private Duration queryTimeout;
+
+    private ExecutorService queryExecutor;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        queryExecutor = new ThreadPoolExecutor(queryConcurrency, queryConcurrency,
+                60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(1000),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "feed-query-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        queryExecutor.shutdown();
+    }
+
+    /**
+     * 작성자들의 최신 포스트를 createdAt 내림차순으로 limit 개까지 조회
+     */
+    public List<Post> fetchLatest(Collection<String> authorIds, Instant since, int limit) {
+        return fetchLatest(authorIds, since, null, limit);
+    }
+
+    /**
+     * 커서 이후(더 오래된) 포스트를 createdAt 내림차순으로 limit 개까지 조회
+     */
+    public List<Post> fetchLatest(Collection<String> authorIds, Instant since, FeedCursor before, int limit) {
+        if (authorIds == null || authorIds.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        int pageSize = Math.min(limit, maxPageSizePerAuthor);
+
+        // 1. 작성자별 첫 페이지를 동시에 조회 (취소 시 실행 중인 Query 도 인터럽트되도록 FutureTask 사용)
+        List<Future<AuthorCursor>> futures = new ArrayList<>();
+        for (String authorId : new LinkedHashSet<>(authorIds)) {
+            AuthorCursor authorCursor = new AuthorCursor(authorId, before);
+            futures.add(queryExecutor.submit(() -> {
+                fetchNextPage(authorCursor, since, pageSize);
+                return authorCursor;
+            }));
+        }
+
+        // 2. 각 작성자의 head 포스트 기준 최대 힙 구성
+        PriorityQueue<AuthorCursor> heap = new PriorityQueue<>(Math.max(1, futures.size()),
+                (c1, c2) -> FeedCursor.FEED_ORDER.compare(c1.head(), c2.head()));
+        for (AuthorCursor authorCursor : awaitAll(futures, System.nanoTime() + queryTimeout.toNanos())) {
+            if (authorCursor.hasHead()) {
+                heap.add(authorCursor);
+            }
+        }
+
+        // 3. k-way 병합: 페이지가 채워지면 즉시 중단
+        List<Post> result = new ArrayList<>(limit);
+        while (!heap.isEmpty() && result.size() < limit) {
+            AuthorCursor authorCursor = heap.poll();
+            result.add(authorCursor.buffer.poll());
+
+            if (!authorCursor.hasHead() && authorCursor.hasMorePages()) {
+                // 한 작성자가 페이지를 독점하는 경우에만 다음 페이지를 추가로 조회
+                fetchNextPage(authorCursor, since, Math.min(limit - result.size(), maxPageSizePerAuthor));
+            }
+            if (authorCursor.hasHead()) {
+                heap.add(authorCursor);
+            }
+        }
+
+        log.debug("Merged {} candidates from {} authors", result.size(), futures.size());
+        return result;
+    }
+
+    /**
+     * 마감 시각(System.nanoTime 기준)까지 모든 작성자 조회 대기 (실패/시간 초과/인터럽트 시 남은 조회 취소)
+     */
+    private List<AuthorCursor> awaitAll(List<Future<AuthorCursor>> futures, long deadlineNanos) {
+        List<AuthorCursor> cursors = new ArrayList<>(futures.size());
+        try {
+            for (Future<AuthorCursor> future : futures) {
+                cursors.add(future.get(Math.max(0L, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS));
+            }
+            return cursors;
+        } catch (InterruptedException e) {
+            cancelAll(futures);
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Feed candidate queries cancelled");
+        } catch (TimeoutException e) {
+            cancelAll(futures);
+            throw new IllegalStateException("Feed candidate queries exceeded " + queryTimeout, e);
+        } catch (ExecutionException e) {
+            cancelAll(futures);
+            throw e.getCause() instanceof RuntimeException cause
+                    ? cause
+                    : new IllegalStateException("Feed candidate query failed", e.getCause());
+        }
+    }
+
+    private static void cancelAll(List<Future<AuthorCursor>> futures) {
+        futures.forEach(future -> future.cancel(true));
+    }
+
+    /**
+     * 버퍼에 유효한 포스트가 생길 때까지 작성자의 다음 페이지 조회 (비활성 포스트만 있는 페이지 건너뜀)
+     */
+    private void fetchNextPage(AuthorCursor cursor, Instant since, int pageSize) {
+        int attempts = 0;
+        while (pageSize > 0 && !cursor.hasHead() && cursor.hasMorePages() && attempts++ < MAX_EMPTY_PAGE_FETCHES) {
+            queryPage(cursor, since, pageSize);
+        }
+    }
+
+    /**
+     * UserPostsIndex 에 작성자의 다음 페이지 Query
+     */
+    private void queryPage(AuthorCursor cursor, Instant since, int pageSize) {
+        Map<String, AttributeValue> values = new HashMap<>();
+        values.put(":userId", new AttributeValue().withS(cursor.authorId));
+        values.put(":since", new AttributeValue().withS(since.toString()));
+
+        // 커서가 있으면 커서 시각까지(포함)만 읽고 동일 시각은 postId 로 걸러낸다
+        String keyCondition = "userId = :userId AND createdAt > :since";
+        if (cursor.before != null && cursor.before.getCreatedAt() != null) {
+            values.put(":before", new AttributeValue().withS(cursor.before.getCreatedAt().toString()));
+            keyCondition = "userId = :userId AND createdAt BETWEEN :since AND :before";
+        }
+
+        DynamoDBQueryExpression<Post> query = new DynamoDBQueryExpression<Post>()
+                .withIndexName(USER_POSTS_INDEX)
+                .withConsistentRead(false)
+                .withKeyConditionExpression(keyCondition)
+                .withExpressionAttributeValues(values)
+                .withScanIndexForward(false)
+                .withLimit(pageSize)
+                .withExclusiveStartKey(cursor.lastEvaluatedKey);
+
+        QueryResultPage<Post> page = dynamoDBMapper.queryPage(Post.class, query);
+        for (Post post : page.getResults()) {
+            // 비활성 포스트와 커서 이전 포스트는 병합 대상에서 제외
+            if (Boolean.TRUE.equals(post.getIsActive()) && post.getCreatedAt() != null
+                    && (cursor.before == null || cursor.before.isBefore(post))) {
+                cursor.buffer.add(post);
+            }
+        }
+        cursor.lastEvaluatedKey = page.getLastEvaluatedKey();
+        cursor.fetched = true;
+    }
+
+    /**
+     * 작성자별 Query 진행 상태
+     */
+    private static final class AuthorCursor {
+        private final String authorId;
+        private final FeedCursor before;
+        private final Deque<Post> buffer = new ArrayDeque<>();
+        private Map<String, AttributeValue> lastEvaluatedKey;
+        private boolean fetched;
+
+        private AuthorCursor(String authorId, FeedCursor before) {
+            this.authorId = authorId;
+            this.before = before;
+        }
+
+        private Post head() {
+            return buffer.peek();
+        }
+
+        private boolean hasHead() {
+            return !buffer.isEmpty();
+        }
+
+        private boolean hasMorePages() {
+            return !fetched || lastEvaluatedKey != null;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.khu.acc.newsfeed.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 피드 조립 단계 병렬 실행기
+ * <p>
+ * 서로 독립적인 단계(후보 조회, 개인화 데이터, 작성자 하이드레이션, 좋아요 상태)를 동시에 실행하고,
+ * 요청 단위 마감 시각을 넘긴 단계는 인터럽트로 취소한 뒤 대체값을 반환한다.
+ * 단계별 소요 시간은 feed.assembly.stage 타이머로 기록한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedStageExecutor {
+
+    private final MeterRegistry meterRegistry;
+
+    // 피드 조립 단계 동시 실행 스레드 수
+    @Value("${app.feed.assembly.concurrency:32}")
+    private int concurrency;
+
+    private ExecutorService stageExecutor;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        stageExecutor = new ThreadPoolExecutor(concurrency, concurrency,
+                60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(1000),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "feed-stage-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        stageExecutor.shutdownNow();
+    }
+
+    /**
+     * 단계 비동기 실행 (소요 시간 기록)
+     */
+    public <T> Future<T> submit(String stage, Supplier<T> task) {
+        Timer timer = stageTimer(stage);
+        return stageExecutor.submit(() -> timer.record(task));
+    }
+
+    /**
+     * 마감 시각(System.nanoTime 기준)까지 단계 결과 대기
+     * <p>
+     * 시간 초과 또는 실패 시 단계를 취소하고 fallback 을 반환한다.
+     */
+    public <T> T await(String stage, Future<T> future, long deadlineNanos, T fallback) {
+        long remaining = deadlineNanos - System.nanoTime();
+        try {
+            return future.get(Math.max(0L, remaining), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            meterRegistry.counter("feed.assembly.timeouts", "stage", stage).increment();
+            log.warn("Feed assembly stage '{}' exceeded deadline, continuing without it", stage);
+            return fallback;
+        } catch (ExecutionException e) {
+            meterRegistry.counter("feed.assembly.failures", "stage", stage).increment();
+            log.warn("Feed assembly stage '{}' failed, continuing without it", stage, e.getCause());
+            return fallback;
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            return fallback;
+        }
+    }
+
+    /**
+     * 진행 중인 단계 일괄 취소 (조기 반환 시)
+     */
+    public void cancelAll(Future<?>... futures) {
+        for (Future<?> future : futures) {
+            if (future != null) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    private Timer stageTimer(String stage) {
+        return Timer.builder("feed.assembly.stage")
+                .description("Feed assembly stage latency")
+                .tag("stage", stage)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+}
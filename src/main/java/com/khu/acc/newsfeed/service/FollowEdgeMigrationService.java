@@ -0,0 +1,94 @@
+package com.khu.acc.newsfeed.service;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.ScanResultPage;
+import com.khu.acc.newsfeed.event.FollowEvent;
+import com.khu.acc.newsfeed.model.Follow;
+import com.khu.acc.newsfeed.model.FollowEdge;
+import com.khu.acc.newsfeed.repository.FollowEdgeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+
+/**
+ * 기존 Follows(followId 키) 행을 FollowEdges(followerId + followeeId 복합 키)로 옮기는 일회성 이전 작업
+ * <p>
+ * 이미 있는 관계는 조건부 PutItem 이 건너뛰므로 여러 번 실행해도 안전하다.
+ * 새로 옮긴 관계는 팔로우 필터/그래프에도 전파해 구축 중인 인스턴스가 놓치지 않게 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FollowEdgeMigrationService {
+
+    private static final int SCAN_PAGE_SIZE = 1000;
+
+    private final DynamoDBMapper dynamoDBMapper;
+    private final FollowEdgeRepository followEdgeRepository;
+    private final MembershipFilterService membershipFilterService;
+    private final FollowGraphService followGraphService;
+
+    // 시작 시 Follows -> FollowEdges 이전 실행 여부
+    @Value("${app.follow-edges.migration.enabled:false}")
+    private boolean enabled;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateOnStartup() {
+        if (enabled) {
+            migrate();
+        }
+    }
+
+    /**
+     * Follows 전체를 읽어 FollowEdges 에 없는 관계만 생성
+     */
+    public void migrate() {
+        long startedAt = System.currentTimeMillis();
+        DynamoDBScanExpression scan = new DynamoDBScanExpression()
+                .withProjectionExpression("followerId, followeeId, createdAt")
+                .withLimit(SCAN_PAGE_SIZE);
+
+        long scanned = 0;
+        long created = 0;
+        try {
+            do {
+                ScanResultPage<Follow> page = dynamoDBMapper.scanPage(Follow.class, scan);
+                for (Follow follow : page.getResults()) {
+                    if (migrate(follow)) {
+                        created++;
+                    }
+                }
+                scanned += page.getResults().size();
+                scan.setExclusiveStartKey(page.getLastEvaluatedKey());
+            } while (scan.getExclusiveStartKey() != null);
+            log.info("Migrated follows to edges: {} scanned, {} created in {} ms",
+                    scanned, created, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            // 다시 실행하면 남은 행부터 이어서 반영됨
+            log.error("Follow edge migration stopped after {} scanned, {} created", scanned, created, e);
+        }
+    }
+
+    private boolean migrate(Follow follow) {
+        if (follow.getFollowerId() == null || follow.getFolloweeId() == null) {
+            return false;
+        }
+        Instant followedAt = follow.getCreatedAt() != null ? follow.getCreatedAt() : Instant.now();
+        if (!followEdgeRepository.create(FollowEdge.of(follow.getFollowerId(), follow.getFolloweeId(), followedAt))) {
+            return false;
+        }
+
+        FollowEvent event = FollowEvent.followed(follow.getFollowerId(), follow.getFolloweeId());
+        membershipFilterService.onFollow(event);
+        followGraphService.onFollow(event);
+        return true;
+    }
+}
@@ -0,0 +1,201 @@
+package com.khu.acc.newsfeed.service;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.ScanResultPage;
+import com.khu.acc.newsfeed.event.FollowEvent;
+import com.khu.acc.newsfeed.graph.FollowGraph;
+import com.khu.acc.newsfeed.model.FollowEdge;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+/**
+ * 팔로우 추천용 인메모리 그래프
+ * <p>
+ * 인스턴스마다 {@link FollowGraph} 를 메모리에 유지하고 팔로우/언팔로우는 Redis pub/sub 으로 모든 인스턴스에 전파되어 증분 반영된다.
+ * 시작 시와 주기적으로 FollowEdges 전체를 읽어 다시 구축한다. 로컬 스냅샷은 두지 않는데, 스냅샷 이후 팔로우를 찾는
+ * FilterExpression Scan 도 테이블 전체를 읽고 과금되므로 전체 구축보다 읽기 비용이 줄지 않기 때문이다.
+ * 그래프가 준비되기 전에는 추천 결과가 비어 있으며(Optional.empty) 호출자가 기존 방식으로 계산한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FollowGraphService {
+
+    private static final String UPDATE_CHANNEL = "graph:follow:updates";
+    private static final int SCAN_PAGE_SIZE = 1000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final DynamoDBMapper dynamoDBMapper;
+    private final MeterRegistry meterRegistry;
+
+    // 추천 집계 병렬도 (0 이하: CPU 코어 수)
+    @Value("${app.graph.parallelism:0}")
+    private int parallelism;
+
+    private ForkJoinPool pool;
+    // 준비 전에는 null
+    private volatile FollowGraph graph;
+    // 구축 중일 때만 non-null (구축 중 도착한 변경을 새 그래프에 반영)
+    private List<FollowEvent> pending;
+
+    @PostConstruct
+    void init() {
+        pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> apply(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(UPDATE_CHANNEL));
+
+        Gauge.builder("follow.graph.nodes", this, service -> service.graph != null ? service.graph.nodeCount() : 0)
+                .register(meterRegistry);
+        Gauge.builder("follow.graph.edges", this, service -> service.graph != null ? service.graph.edgeCount() : 0)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * 공통 이웃 수 순 친구의 친구 추천 (그래프 준비 전이면 empty)
+     */
+    public Optional<List<String>> recommend(String userId, int limit) {
+        FollowGraph current = graph;
+        if (current == null) {
+            return Optional.empty();
+        }
+        return Optional.of(Timer.builder("follow.graph.recommend")
+                .description("Friends-of-friends recommendation latency")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry)
+                .record(() -> current.recommend(userId, limit, pool)));
+    }
+
+    /**
+     * 팔로우/언팔로우 전파 (모든 인스턴스에 반영)
+     */
+    @EventListener
+    public void onFollow(FollowEvent event) {
+        String payload = (event.isFollowed() ? "+" : "-") + "|" + event.getFollowerId() + "|" + event.getFolloweeId();
+        try {
+            stringRedisTemplate.convertAndSend(UPDATE_CHANNEL, payload);
+        } catch (Exception e) {
+            // 전파 실패 시 최소한 현재 인스턴스에는 반영
+            log.warn("Failed to publish follow graph update {}", payload, e);
+            applyLocal(event);
+        }
+    }
+
+    /**
+     * 시작 시 전체 구축
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * 전체 재구축 (전파되지 않은 언팔로우 정리)
+     */
+    @Scheduled(initialDelayString = "${app.graph.rebuild-interval-ms:21600000}",
+            fixedDelayString = "${app.graph.rebuild-interval-ms:21600000}")
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        beginBuild();
+        try {
+            FollowGraph.Builder builder = FollowGraph.builder();
+            long scanned = scan(follow -> builder.addEdge(follow.getFollowerId(), follow.getFolloweeId()));
+            FollowGraph built = builder.build();
+            finishBuild(built);
+            log.info("Built follow graph from {} follows in {} ms ({} users)",
+                    scanned, System.currentTimeMillis() - startedAt, built.nodeCount());
+        } catch (Exception e) {
+            // 기존 그래프 유지 (없으면 계속 기존 방식으로 추천)
+            abortBuild();
+            log.warn("Failed to build follow graph", e);
+        }
+    }
+
+    private long scan(Consumer<FollowEdge> loader) {
+        DynamoDBScanExpression scan = new DynamoDBScanExpression()
+                .withProjectionExpression("followerId, followeeId")
+                .withLimit(SCAN_PAGE_SIZE);
+
+        long scanned = 0;
+        do {
+            ScanResultPage<FollowEdge> page = dynamoDBMapper.scanPage(FollowEdge.class, scan);
+            page.getResults().forEach(loader);
+            scanned += page.getResults().size();
+            scan.setExclusiveStartKey(page.getLastEvaluatedKey());
+        } while (scan.getExclusiveStartKey() != null);
+        return scanned;
+    }
+
+    private void apply(String payload) {
+        String[] parts = payload.split("\\|", 3);
+        if (parts.length != 3) {
+            log.warn("Ignoring malformed follow graph update: {}", payload);
+            return;
+        }
+        applyLocal("+".equals(parts[0])
+                ? FollowEvent.followed(parts[1], parts[2])
+                : FollowEvent.unfollowed(parts[1], parts[2]));
+    }
+
+    private synchronized void applyLocal(FollowEvent event) {
+        FollowGraph current = graph;
+        if (current != null) {
+            apply(current, event);
+        }
+        if (pending != null) {
+            pending.add(event);
+        }
+        meterRegistry.counter("follow.graph.updates", "type", event.isFollowed() ? "follow" : "unfollow").increment();
+    }
+
+    private synchronized void beginBuild() {
+        pending = new ArrayList<>();
+    }
+
+    private synchronized void finishBuild(FollowGraph built) {
+        pending.forEach(event -> apply(built, event));
+        pending = null;
+        graph = built;
+    }
+
+    private synchronized void abortBuild() {
+        pending = null;
+    }
+
+    private static void apply(FollowGraph target, FollowEvent event) {
+        if (event.isFollowed()) {
+            target.addEdge(event.getFollowerId(), event.getFolloweeId());
+        } else {
+            target.removeEdge(event.getFollowerId(), event.getFolloweeId());
+        }
+    }
+}
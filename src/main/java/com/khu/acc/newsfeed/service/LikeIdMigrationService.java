@@ -0,0 +1,126 @@
+package com.khu.acc.newsfeed.service;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBSaveExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.ScanResultPage;
+import com.amazonaws.services.dynamodbv2.model.ConditionalCheckFailedException;
+import com.amazonaws.services.dynamodbv2.model.ExpectedAttributeValue;
+import com.khu.acc.newsfeed.model.Like;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+
+/**
+ * 임의 ID 로 저장된 기존 Likes 행을 (포스트, 사용자) 고정 ID({@link Like#idOf})로 옮기는 일회성 이전 작업
+ * <p>
+ * 좋아요 파이프라인은 고정 ID 로만 현재 상태를 조회하므로, 옮기기 전의 좋아요는 취소해도 지워지지 않는다.
+ * 고정 ID 행을 조건부 PutItem 으로 만든 뒤 기존 행을 지우며, 고정 ID 행이 이미 있으면 중복 좋아요이므로
+ * 기존 행만 지우고 좋아요 수를 하나 줄인다. 여러 번 실행해도 안전하다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LikeIdMigrationService {
+
+    private static final int SCAN_PAGE_SIZE = 1000;
+
+    private final DynamoDBMapper dynamoDBMapper;
+    private final CounterBufferService counterBufferService;
+
+    // 시작 시 Likes ID 이전 실행 여부
+    @Value("${app.likes.migration.enabled:false}")
+    private boolean enabled;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateOnStartup() {
+        if (enabled) {
+            migrate();
+        }
+    }
+
+    /**
+     * Likes 전체를 읽어 고정 ID 가 아닌 행만 이전
+     */
+    public void migrate() {
+        long startedAt = System.currentTimeMillis();
+        DynamoDBScanExpression scan = new DynamoDBScanExpression()
+                .withProjectionExpression("likeId, postId, userId, createdAt")
+                .withLimit(SCAN_PAGE_SIZE);
+
+        long scanned = 0;
+        long migrated = 0;
+        long duplicates = 0;
+        try {
+            do {
+                ScanResultPage<Like> page = dynamoDBMapper.scanPage(Like.class, scan);
+                for (Like like : page.getResults()) {
+                    Boolean created = migrate(like);
+                    if (Boolean.TRUE.equals(created)) {
+                        migrated++;
+                    } else if (Boolean.FALSE.equals(created)) {
+                        duplicates++;
+                    }
+                }
+                scanned += page.getResults().size();
+                scan.setExclusiveStartKey(page.getLastEvaluatedKey());
+            } while (scan.getExclusiveStartKey() != null);
+            log.info("Migrated like ids: {} scanned, {} moved, {} duplicates removed in {} ms",
+                    scanned, migrated, duplicates, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            // 다시 실행하면 남은 행부터 이어서 반영됨
+            log.error("Like id migration stopped after {} scanned, {} moved, {} duplicates removed",
+                    scanned, migrated, duplicates, e);
+        }
+    }
+
+    /**
+     * @return 고정 ID 행을 만들었으면 true, 이미 있어 기존 행만 지웠으면 false, 이전 대상이 아니면 null
+     */
+    private Boolean migrate(Like like) {
+        if (like.getPostId() == null || like.getUserId() == null) {
+            return null;
+        }
+        String likeId = Like.idOf(like.getPostId(), like.getUserId());
+        if (likeId.equals(like.getLikeId())) {
+            return null;
+        }
+
+        Like moved = Like.builder()
+                .likeId(likeId)
+                .postId(like.getPostId())
+                .userId(like.getUserId())
+                .createdAt(like.getCreatedAt() != null ? like.getCreatedAt() : Instant.now())
+                .build();
+        DynamoDBSaveExpression notExists = new DynamoDBSaveExpression()
+                .withExpectedEntry("likeId", new ExpectedAttributeValue(false));
+        boolean created;
+        try {
+            dynamoDBMapper.save(moved, notExists);
+            created = true;
+        } catch (ConditionalCheckFailedException e) {
+            created = false;
+        }
+
+        // 이전 실행이 고정 ID 행만 만들고 멈춘 경우(같은 createdAt)는 중복이 아님
+        boolean duplicate = !created && !moved.getCreatedAt().equals(existingCreatedAt(likeId));
+        dynamoDBMapper.delete(Like.builder().likeId(like.getLikeId()).build());
+        if (duplicate) {
+            // 같은 좋아요가 두 번 저장되어 두 번 세어진 경우
+            counterBufferService.decrement(CounterService.Counter.POST_LIKES, like.getPostId());
+        }
+        return created;
+    }
+
+    private Instant existingCreatedAt(String likeId) {
+        Like existing = dynamoDBMapper.load(Like.class, likeId);
+        return existing != null ? existing.getCreatedAt() : null;
+    }
+}
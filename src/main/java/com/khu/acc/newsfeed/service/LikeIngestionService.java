@@ -0,0 +1,431 @@
+package com.khu.acc.newsfeed.service;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.CancellationReason;
+import com.amazonaws.services.dynamodbv2.model.Delete;
+import com.amazonaws.services.dynamodbv2.model.Put;
+import com.amazonaws.services.dynamodbv2.model.TransactWriteItem;
+import com.amazonaws.services.dynamodbv2.model.TransactWriteItemsRequest;
+import com.amazonaws.services.dynamodbv2.model.TransactionCanceledException;
+import com.khu.acc.newsfeed.event.PostEngagementEvent;
+import com.khu.acc.newsfeed.exception.TooManyRequestsException;
+import com.khu.acc.newsfeed.model.Like;
+import com.khu.acc.newsfeed.model.Post;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+/**
+ * 좋아요/좋아요 취소 일괄 쓰기 파이프라인
+ * <p>
+ * 요청 스레드는 명령을 크기 제한이 있는 lock-free 큐에 넣고 바로 반환하며, 큐가 가득 차면 429 로 거절한다.
+ * 작업 스레드는 묶음 대기 시간마다 큐를 비우고 같은 (포스트, 사용자) 쌍은 마지막 요청만 남긴 뒤,
+ * 현재 상태(BatchGetItem)와 비교해 바뀔 것으로 보이는 항목만 조건부 TransactWriteItems(25개 단위)로 쓴다.
+ * 좋아요는 행이 없을 때만 Put, 취소는 행이 있을 때만 Delete 하므로, 여러 인스턴스가 같은 쌍을 동시에 처리해도
+ * 조건을 통과한 한 곳만 카운터와 참여 이벤트를 반영한다. (조건 실패 항목은 이미 원하는 상태이므로 건너뜀)
+ * 트랜잭션은 일반 쓰기의 두 배 쓰기 용량을 쓰지만, 읽은 상태와 쓰기 사이의 경쟁으로 카운터가 어긋나지 않는다.
+ * 충돌/처리량 초과 등으로 취소된 항목은 지수 백오프로 재시도하고(응답을 받지 못한 경우는 같은 요청 토큰으로 재시도해
+ * 중복 반영되지 않음), 그래도 쓰지 못했거나 묶음 처리 중 예외가 난 명령은 다음 주기에 정해진 횟수까지 다시 처리한다.
+ * 다시 처리하는 명령보다 나중에 들어온 같은 쌍의 요청이 있으면 나중 요청이 이긴다.
+ * 쓰기가 커밋된 뒤의 전파(카운터, 이벤트, 좋아요 사용자 집합)는 각각 격리해 실패해도 명령을 다시 처리하지 않는다.
+ * (다시 처리하면 조건 실패로 건너뛰어 카운터와 이벤트가 영영 빠짐)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LikeIngestionService {
+
+    private static final int TRANSACT_WRITE_MAX_ITEMS = 25;
+    private static final String CONDITIONAL_CHECK_FAILED = "ConditionalCheckFailed";
+    private static final int BATCH_GET_MAX_KEYS = 100;
+
+    private final AmazonDynamoDB amazonDynamoDB;
+    private final DynamoDBMapper dynamoDBMapper;
+    private final DynamoDBMapperConfig dynamoDBMapperConfig;
+    private final MembershipFilterService membershipFilterService;
+    private final CounterBufferService counterBufferService;
+    private final LikerIndexService likerIndexService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    // 큐 최대 길이 (초과 시 429)
+    @Value("${app.likes.pipeline.capacity:10000}")
+    private int capacity;
+
+    // 큐를 비우는 주기 (같은 쌍의 좋아요/취소 반복은 이 구간 안에서 합쳐짐)
+    @Value("${app.likes.pipeline.batch-window-ms:50}")
+    private long batchWindowMs;
+
+    // 한 번에 처리하는 최대 명령 수 (이만큼 쌓이면 주기를 기다리지 않음)
+    @Value("${app.likes.pipeline.max-batch:500}")
+    private int maxBatch;
+
+    // 취소/실패한 트랜잭션 재시도 횟수와 첫 백오프
+    @Value("${app.likes.pipeline.max-retries:5}")
+    private int maxRetries;
+
+    @Value("${app.likes.pipeline.base-backoff-ms:50}")
+    private long baseBackoffMs;
+
+    // 실패한 명령을 다음 주기에 다시 처리하는 최대 횟수 (초과 시 유실)
+    @Value("${app.likes.pipeline.max-requeues:3}")
+    private int maxRequeues;
+
+    private final ConcurrentLinkedQueue<LikeCommand> queue = new ConcurrentLinkedQueue<>();
+    // 다음 주기에 다시 처리할 명령 (작업 스레드 전용)
+    private List<LikeCommand> requeued = new ArrayList<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private volatile boolean running;
+    private Thread worker;
+
+    /**
+     * 좋아요/취소 명령 (post 는 참여 이벤트용, 삭제된 포스트의 취소면 null, attempts 는 다시 처리한 횟수)
+     */
+    public record LikeCommand(PostEngagementEvent.Type type, String postId, String userId, Post post, Instant at,
+                              int attempts) {
+
+        public static LikeCommand like(Post post, String userId) {
+            return new LikeCommand(PostEngagementEvent.Type.LIKE, post.getPostId(), userId, post, Instant.now(), 0);
+        }
+
+        public static LikeCommand unlike(String postId, Post post, String userId) {
+            return new LikeCommand(PostEngagementEvent.Type.UNLIKE, postId, userId, post, Instant.now(), 0);
+        }
+
+        LikeCommand retried() {
+            return new LikeCommand(type, postId, userId, post, at, attempts + 1);
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        running = true;
+        worker = new Thread(this::run, "like-ingest");
+        worker.setDaemon(true);
+        worker.start();
+
+        Gauge.builder("like.pipeline.queue.size", queued, AtomicInteger::get)
+                .description("Like commands waiting to be written")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 종료 시 새 요청을 거절하고 남은 명령을 모두 쓴 뒤 종료
+     */
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(worker);
+        worker.join(TimeUnit.SECONDS.toMillis(30));
+    }
+
+    /**
+     * 명령 적재 (큐가 가득 차면 TooManyRequestsException)
+     */
+    public void submit(LikeCommand command) {
+        if (!running) {
+            throw new TooManyRequestsException("Like requests are not being accepted, retry later");
+        }
+        int size = queued.incrementAndGet();
+        if (size > capacity) {
+            queued.decrementAndGet();
+            meterRegistry.counter("like.pipeline.rejected").increment();
+            throw new TooManyRequestsException("Too many like requests, retry later");
+        }
+        queue.offer(command);
+        if (size >= maxBatch) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    private void run() {
+        while (running) {
+            LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(batchWindowMs));
+            drain();
+        }
+        // 종료 시에도 다시 처리할 명령은 횟수 제한까지 재시도
+        do {
+            drain();
+        } while (!requeued.isEmpty() && sleepQuietly(batchWindowMs));
+    }
+
+    private void drain() {
+        List<LikeCommand> retrying = requeued;
+        requeued = new ArrayList<>();
+        int retryFrom = 0;
+        while (retryFrom < retrying.size() || !queue.isEmpty()) {
+            List<LikeCommand> commands = new ArrayList<>(Math.min(queued.get() + retrying.size() - retryFrom, maxBatch));
+            while (commands.size() < maxBatch && retryFrom < retrying.size()) {
+                commands.add(retrying.get(retryFrom++));
+            }
+            int polled = 0;
+            LikeCommand command;
+            while (commands.size() < maxBatch && (command = queue.poll()) != null) {
+                commands.add(command);
+                polled++;
+            }
+            queued.addAndGet(-polled);
+            try {
+                process(commands);
+            } catch (Exception e) {
+                // 작업 스레드는 계속 동작 (해당 묶음은 다음 주기에 다시 처리)
+                log.error("Failed to process {} like commands", commands.size(), e);
+                requeue(commands);
+            }
+        }
+    }
+
+    /**
+     * 다음 주기에 다시 처리 (횟수를 넘은 명령은 유실)
+     */
+    private void requeue(List<LikeCommand> commands) {
+        int dropped = 0;
+        for (LikeCommand command : commands) {
+            if (command.attempts() < maxRequeues) {
+                requeued.add(command.retried());
+            } else {
+                dropped++;
+            }
+        }
+        meterRegistry.counter("like.pipeline.requeued").increment(commands.size() - dropped);
+        if (dropped > 0) {
+            meterRegistry.counter("like.pipeline.failed").increment(dropped);
+            log.error("Dropped {} like commands after {} requeues", dropped, maxRequeues);
+        }
+    }
+
+    private void process(List<LikeCommand> commands) {
+        // 1. 같은 (포스트, 사용자) 쌍은 마지막 요청만 남김 (좋아요 -> 취소 -> 좋아요 반복 제거, 다시 처리하는 명령은 접수 시각 기준)
+        Map<String, LikeCommand> latest = new LinkedHashMap<>();
+        commands.forEach(command -> latest.merge(Like.idOf(command.postId(), command.userId()), command,
+                (previous, next) -> next.at().isBefore(previous.at()) ? previous : next));
+        meterRegistry.counter("like.pipeline.deduplicated").increment(commands.size() - latest.size());
+
+        // 2. 현재 상태와 비교해 바뀔 것으로 보이는 항목만 조건부로 쓰기
+        Map<String, Like> liked = findExisting(latest);
+        Map<String, LikeCommand> effective = new LinkedHashMap<>();
+        String tableName = DynamoDBMapperConfig.DefaultTableNameResolver.INSTANCE.getTableName(Like.class, dynamoDBMapperConfig);
+        List<TransactWriteItem> writes = new ArrayList<>();
+        latest.forEach((likeId, command) -> {
+            boolean like = command.type() == PostEngagementEvent.Type.LIKE;
+            if (like == liked.containsKey(likeId)) {
+                return;
+            }
+            effective.put(likeId, command);
+            writes.add(like ? putItem(tableName, likeId, command) : deleteItem(tableName, likeId));
+        });
+        if (writes.isEmpty()) {
+            return;
+        }
+
+        WriteOutcome outcome = Timer.builder("like.pipeline.write")
+                .description("Like transactional write latency including retries")
+                .register(meterRegistry)
+                .record(() -> write(writes));
+        if (!outcome.failed().isEmpty()) {
+            log.warn("Requeueing {} like writes after {} retries", outcome.failed().size(), maxRetries);
+            requeue(outcome.failed().stream().map(effective::get).collect(Collectors.toList()));
+        }
+        if (!outcome.unchanged().isEmpty()) {
+            // 다른 인스턴스가 먼저 같은 상태로 바꾼 항목
+            meterRegistry.counter("like.pipeline.unchanged").increment(outcome.unchanged().size());
+        }
+
+        // 3. 이 인스턴스가 바꾼 항목만 카운터/참여 이벤트에 전파 (이미 커밋되었으므로 실패해도 다시 처리하지 않음)
+        List<LikeCommand> applied = effective.entrySet().stream()
+                .filter(entry -> !outcome.failed().contains(entry.getKey())
+                        && !outcome.unchanged().contains(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .collect(Collectors.toList());
+        applied.forEach(command -> {
+            try {
+                propagate(command, liked.get(Like.idOf(command.postId(), command.userId())));
+            } catch (Exception e) {
+                meterRegistry.counter("like.pipeline.propagation.failed").increment();
+                log.error("Failed to propagate committed {} of post {} by {}",
+                        command.type(), command.postId(), command.userId(), e);
+            }
+        });
+
+        // 4. 좋아요 사용자 집합은 마지막에 반영 (실패하면 집합을 지워 원본에서 다시 채움)
+        try {
+            likerIndexService.apply(applied);
+        } catch (Exception e) {
+            meterRegistry.counter("like.pipeline.propagation.failed").increment(applied.size());
+            log.error("Failed to update liker sets for {} committed like changes", applied.size(), e);
+        }
+    }
+
+    /**
+     * 커밋된 좋아요/취소를 카운터와 참여 이벤트에 반영
+     *
+     * @param previous 취소 전 좋아요 행 (원래 좋아요 시각 기준으로 프로필/트렌딩 점수를 되돌림)
+     */
+    private void propagate(LikeCommand command, Like previous) {
+        boolean like = command.type() == PostEngagementEvent.Type.LIKE;
+        counterBufferService.add(CounterService.Counter.POST_LIKES, command.postId(), like ? 1 : -1);
+        PostEngagementEvent event = command.post() != null
+                ? PostEngagementEvent.of(command.post(), command.userId(), command.type())
+                : PostEngagementEvent.of(command.postId(), command.userId(), command.type());
+        if (!like) {
+            event = event.undoing(previous != null ? previous.getCreatedAt() : null);
+        }
+        eventPublisher.publishEvent(event);
+    }
+
+    /**
+     * 현재 좋아요 상태 일괄 조회 (필터에서 확실히 음성인 쌍은 조회 생략, BatchGetItem 100개 단위)
+     */
+    private Map<String, Like> findExisting(Map<String, LikeCommand> commands) {
+        List<Like> keys = commands.entrySet().stream()
+                .filter(entry -> membershipFilterService.mightLike(entry.getValue().userId(), entry.getValue().postId()))
+                .map(entry -> Like.builder().likeId(entry.getKey()).build())
+                .collect(Collectors.toList());
+
+        Map<String, Like> existing = new HashMap<>();
+        for (int from = 0; from < keys.size(); from += BATCH_GET_MAX_KEYS) {
+            dynamoDBMapper.batchLoad(keys.subList(from, Math.min(keys.size(), from + BATCH_GET_MAX_KEYS)))
+                    .values().stream()
+                    .flatMap(List::stream)
+                    .map(Like.class::cast)
+                    .forEach(like -> existing.put(like.getLikeId(), like));
+        }
+        return existing;
+    }
+
+    /**
+     * 쓰기 결과
+     *
+     * @param failed    재시도 후에도 쓰지 못한 Like ID
+     * @param unchanged 조건 실패로 건너뛴 Like ID (이미 원하는 상태)
+     */
+    private record WriteOutcome(Set<String> failed, Set<String> unchanged) {
+    }
+
+    /**
+     * 조건부 TransactWriteItems(25개 단위), 취소 사유별로 조건 실패 항목은 빼고 나머지 재시도
+     */
+    private WriteOutcome write(List<TransactWriteItem> writes) {
+        DistributionSummary batchSize = DistributionSummary.builder("like.pipeline.batch.size")
+                .description("Items per TransactWriteItems call")
+                .register(meterRegistry);
+
+        Set<String> failed = new HashSet<>();
+        Set<String> unchanged = new HashSet<>();
+        for (int from = 0; from < writes.size(); from += TRANSACT_WRITE_MAX_ITEMS) {
+            List<TransactWriteItem> pending = writes.subList(from, Math.min(writes.size(), from + TRANSACT_WRITE_MAX_ITEMS));
+            // 같은 항목 집합을 다시 보낼 때는 같은 토큰을 써서 이미 커밋된 요청이 중복 반영되지 않게 함
+            String token = UUID.randomUUID().toString();
+            for (int attempt = 0; !pending.isEmpty(); attempt++) {
+                if (attempt > 0) {
+                    if (attempt > maxRetries) {
+                        pending.forEach(item -> failed.add(likeIdOf(item)));
+                        break;
+                    }
+                    meterRegistry.counter("like.pipeline.retries").increment();
+                    backoff(attempt);
+                }
+                try {
+                    batchSize.record(pending.size());
+                    amazonDynamoDB.transactWriteItems(new TransactWriteItemsRequest()
+                            .withTransactItems(pending)
+                            .withClientRequestToken(token));
+                    pending = List.of();
+                } catch (TransactionCanceledException e) {
+                    // 조건 실패 항목은 건너뛰고, 충돌/처리량 초과로 취소된 나머지는 새 요청으로 재시도
+                    List<CancellationReason> reasons = e.getCancellationReasons();
+                    List<TransactWriteItem> retry = new ArrayList<>(pending.size());
+                    for (int i = 0; i < pending.size(); i++) {
+                        String code = reasons != null && i < reasons.size() ? reasons.get(i).getCode() : null;
+                        if (CONDITIONAL_CHECK_FAILED.equals(code)) {
+                            unchanged.add(likeIdOf(pending.get(i)));
+                        } else {
+                            retry.add(pending.get(i));
+                        }
+                    }
+                    if (retry.size() < pending.size()) {
+                        token = UUID.randomUUID().toString();
+                    }
+                    pending = retry;
+                } catch (AmazonClientException e) {
+                    // 처리량 초과/응답 유실 등은 같은 토큰으로 전체 재시도
+                    log.warn("Like transactional write failed on attempt {}: {}", attempt + 1, e.getMessage());
+                }
+            }
+        }
+        return new WriteOutcome(failed, unchanged);
+    }
+
+    private static boolean sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // 지수 백오프 + 지터
+    private void backoff(int attempt) {
+        long cap = baseBackoffMs << Math.min(attempt - 1, 10);
+        long sleepMs = cap / 2 + ThreadLocalRandom.current().nextLong(cap / 2 + 1);
+        try {
+            Thread.sleep(sleepMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static TransactWriteItem putItem(String tableName, String likeId, LikeCommand command) {
+        return new TransactWriteItem().withPut(new Put()
+                .withTableName(tableName)
+                .withItem(Map.of(
+                        "likeId", new AttributeValue().withS(likeId),
+                        "postId", new AttributeValue().withS(command.postId()),
+                        "userId", new AttributeValue().withS(command.userId()),
+                        "createdAt", new AttributeValue().withS(command.at().toString())))
+                .withConditionExpression("attribute_not_exists(likeId)"));
+    }
+
+    private static TransactWriteItem deleteItem(String tableName, String likeId) {
+        return new TransactWriteItem().withDelete(new Delete()
+                .withTableName(tableName)
+                .withKey(Map.of("likeId", new AttributeValue().withS(likeId)))
+                .withConditionExpression("attribute_exists(likeId)"));
+    }
+
+    private static String likeIdOf(TransactWriteItem item) {
+        return item.getPut() != null
+                ? item.getPut().getItem().get("likeId").getS()
+                : item.getDelete().getKey().get("likeId").getS();
+    }
+}
@@ -1,11 +1,64 @@
 package com.khu.acc.newsfeed.service;
 
+import com.khu.acc.newsfeed.dto.LikeResponse;
+import com.khu.acc.newsfeed.exception.ResourceNotFoundException;
+import com.khu.acc.newsfeed.model.Post;
+import com.khu.acc.newsfeed.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
+/**
+ * 좋아요 요청 접수
+ * <p>
+ * 포스트 존재만 확인하고 쓰기는 {@link LikeIngestionService} 파이프라인에 맡긴다.
+ * 같은 좋아요/취소를 반복해도 결과는 한 번 처리한 것과 같다.
+ */
+@Slf4j
 @Transactional
 @Service
 @RequiredArgsConstructor
 public class LikeService {
+
+    private final PostRepository postRepository;
+    private final LikeIngestionService likeIngestionService;
+    private final LikerIndexService likerIndexService;
+
+    /**
+     * 포스트 좋아요 (큐가 가득 차면 TooManyRequestsException)
+     */
+    public LikeResponse likePost(String userId, String postId) {
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> ResourceNotFoundException.post(postId));
+
+        LikeIngestionService.LikeCommand command = LikeIngestionService.LikeCommand.like(post, userId);
+        likeIngestionService.submit(command);
+
+        log.info("User {} liked post {}", userId, postId);
+        return LikeResponse.builder()
+                .postId(postId)
+                .userId(userId)
+                .createdAt(command.at())
+                .build();
+    }
+
+    /**
+     * 포스트 좋아요 취소 (큐가 가득 차면 TooManyRequestsException)
+     */
+    public void unlikePost(String userId, String postId) {
+        Post post = postRepository.findById(postId).orElse(null);
+        likeIngestionService.submit(LikeIngestionService.LikeCommand.unlike(postId, post, userId));
+
+        log.info("User {} unliked post {}", userId, postId);
+    }
+
+    /**
+     * 좋아요 여부 확인
+     */
+    public boolean hasLiked(String userId, String postId) {
+        return likerIndexService.findLikedPostIds(userId, List.of(postId)).contains(postId);
+    }
 }
@@ -0,0 +1,254 @@
+package com.khu.acc.newsfeed.service;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBQueryExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.QueryResultPage;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.khu.acc.newsfeed.event.PostEngagementEvent;
+import com.khu.acc.newsfeed.model.Like;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 포스트별 좋아요 사용자 집합 (post:likers:{postId})
+ * <p>
+ * 좋아요 파이프라인이 반영한 좋아요/취소를 Redis 집합에 SADD/SREM 으로 유지하고,
+ * "이 포스트들 중 사용자가 좋아요한 것" 은 SISMEMBER 를 파이프라인으로 묶어 Redis 왕복 1회로 답한다.
+ * 완성된 집합에는 표시 멤버(*)를 넣어, 재구축 전 파이프라인 SADD 로만 생긴 부분 집합과 구분한다.
+ * <p>
+ * 집합이 없거나 부분 집합인 포스트는 조회 경로에서 기다리지 않고 백그라운드에서 Likes PostIndex 를 페이지 단위로 읽어
+ * 임시 키에 채운 뒤 RENAME 으로 교체하며, 그동안은 부분 집합에 있는 좋아요만 답한다.
+ * 재구축 중 좋아요/취소가 반영되면 버전 키가 바뀌어 교체를 포기하므로 최신 SREM 을 되돌리지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LikerIndexService {
+
+    private static final String LIKERS_KEY_PREFIX = "post:likers:";
+    private static final String VERSION_KEY_SUFFIX = ":version";
+    private static final String COMPLETE_MARKER = "*";
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    // 읽기 시작 후 버전이 그대로일 때만 임시 집합으로 교체, 아니면 임시 집합 폐기
+    private static final RedisScript<Long> SWAP_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('get', KEYS[3]) or '') == ARGV[1] then "
+                    + "redis.call('rename', KEYS[1], KEYS[2]) redis.call('expire', KEYS[2], ARGV[2]) return 1 "
+                    + "else redis.call('del', KEYS[1]) return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final DynamoDBMapper dynamoDBMapper;
+    private final MembershipFilterService membershipFilterService;
+    private final MeterRegistry meterRegistry;
+
+    // 좋아요 사용자 집합 보관 시간 (좋아요가 반영될 때마다 연장)
+    @Value("${app.likes.likers.ttl:7d}")
+    private Duration ttl;
+
+    // 백그라운드 재구축 동시 실행 수
+    @Value("${app.likes.likers.rebuild-concurrency:2}")
+    private int rebuildConcurrency;
+
+    // 대기 중인 재구축 최대 수 (초과분은 다음 조회 때 다시 요청)
+    @Value("${app.likes.likers.rebuild-queue:1000}")
+    private int rebuildQueue;
+
+    private final Set<String> rebuilding = ConcurrentHashMap.newKeySet();
+    private ExecutorService rebuildExecutor;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        rebuildExecutor = new ThreadPoolExecutor(rebuildConcurrency, rebuildConcurrency,
+                60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(rebuildQueue),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "liker-rebuild-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    /**
+     * 사용자가 좋아요한 포스트 ID 조회 (필터 음성은 제외, 나머지는 Redis 왕복 1회)
+     * <p>
+     * 완성되지 않은 집합은 재구축을 예약하고 부분 집합 기준으로 답한다 (재구축 전 좋아요는 일시적으로 누락될 수 있음).
+     */
+    public Set<String> findLikedPostIds(String userId, Collection<String> postIds) {
+        // 필터에서 확실히 좋아요하지 않은 포스트는 제외 (모두 제외되면 조회 생략)
+        List<String> candidateIds = postIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .filter(postId -> membershipFilterService.mightLike(userId, postId))
+                .collect(Collectors.toList());
+        if (candidateIds.isEmpty()) {
+            return Set.of();
+        }
+
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            for (String postId : candidateIds) {
+                redis.sIsMember(likersKey(postId), userId);
+                redis.sIsMember(likersKey(postId), COMPLETE_MARKER);
+            }
+            return null;
+        });
+
+        Set<String> liked = new HashSet<>();
+        for (int i = 0; i < candidateIds.size(); i++) {
+            String postId = candidateIds.get(i);
+            if (!Boolean.TRUE.equals(results.get(i * 2 + 1))) {
+                scheduleRebuild(postId);
+            }
+            if (Boolean.TRUE.equals(results.get(i * 2))) {
+                liked.add(postId);
+            }
+        }
+        return liked;
+    }
+
+    /**
+     * 좋아요 파이프라인이 반영한 변경을 집합에 적용 (Redis 왕복 1회)
+     */
+    public void apply(Collection<LikeIngestionService.LikeCommand> applied) {
+        if (applied.isEmpty()) {
+            return;
+        }
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                for (LikeIngestionService.LikeCommand command : applied) {
+                    String key = likersKey(command.postId());
+                    if (command.type() == PostEngagementEvent.Type.LIKE) {
+                        redis.sAdd(key, command.userId());
+                    } else {
+                        redis.sRem(key, command.userId());
+                    }
+                    redis.expire(key, ttl.toSeconds());
+                    // 진행 중인 재구축이 이 변경 이전 스냅샷으로 집합을 덮어쓰지 않도록 버전 증가
+                    redis.incr(key + VERSION_KEY_SUFFIX);
+                    redis.expire(key + VERSION_KEY_SUFFIX, ttl.toSeconds());
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            // 반영하지 못한 포스트의 집합은 지워 다음 조회 때 원본에서 다시 채움
+            log.warn("Failed to update liker sets for {} changes", applied.size(), e);
+            try {
+                stringRedisTemplate.delete(applied.stream()
+                        .map(command -> likersKey(command.postId()))
+                        .collect(Collectors.toSet()));
+            } catch (Exception ignored) {
+                // Redis 장애 시 집합도 TTL 로 만료됨
+            }
+        }
+    }
+
+    /**
+     * 재구축 예약 (같은 포스트는 하나만 진행, 대기열이 가득 차면 다음 조회 때 다시 요청)
+     */
+    private void scheduleRebuild(String postId) {
+        if (!rebuilding.add(postId)) {
+            return;
+        }
+        try {
+            rebuildExecutor.execute(() -> {
+                try {
+                    rebuild(postId);
+                } catch (Exception e) {
+                    log.warn("Failed to rebuild liker set for post {}", postId, e);
+                } finally {
+                    rebuilding.remove(postId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rebuilding.remove(postId);
+            meterRegistry.counter("like.likers.rebuilds", "result", "rejected").increment();
+        }
+    }
+
+    /**
+     * Likes 테이블 PostIndex 를 페이지 단위로 읽어 임시 키에 채운 뒤 RENAME 으로 교체
+     *
+     * @return 교체했으면 true, 재구축 중 변경이 있어 폐기했으면 false
+     */
+    public boolean rebuild(String postId) {
+        String key = likersKey(postId);
+        String versionKey = key + VERSION_KEY_SUFFIX;
+        String tempKey = key + ":rebuild:" + UUID.randomUUID();
+        String version = stringRedisTemplate.opsForValue().get(versionKey);
+
+        DynamoDBQueryExpression<Like> query = new DynamoDBQueryExpression<Like>()
+                .withIndexName("PostIndex")
+                .withConsistentRead(false)
+                .withKeyConditionExpression("postId = :postId")
+                .withExpressionAttributeValues(Map.of(":postId", new AttributeValue().withS(postId)))
+                .withLimit(REBUILD_PAGE_SIZE);
+        Map<String, AttributeValue> startKey = null;
+        try {
+            do {
+                QueryResultPage<Like> page = dynamoDBMapper.queryPage(Like.class, query.withExclusiveStartKey(startKey));
+                String[] userIds = page.getResults().stream()
+                        .map(Like::getUserId)
+                        .filter(Objects::nonNull)
+                        .toArray(String[]::new);
+                stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    StringRedisConnection redis = (StringRedisConnection) connection;
+                    if (userIds.length > 0) {
+                        redis.sAdd(tempKey, userIds);
+                    }
+                    redis.expire(tempKey, ttl.toSeconds());
+                    return null;
+                });
+                startKey = page.getLastEvaluatedKey();
+            } while (startKey != null);
+            stringRedisTemplate.opsForSet().add(tempKey, COMPLETE_MARKER);
+
+            Long swapped = stringRedisTemplate.execute(SWAP_SCRIPT, List.of(tempKey, key, versionKey),
+                    version != null ? version : "", Long.toString(ttl.toSeconds()));
+            boolean replaced = Long.valueOf(1L).equals(swapped);
+            meterRegistry.counter("like.likers.rebuilds", "result", replaced ? "replaced" : "superseded").increment();
+            return replaced;
+        } catch (RuntimeException e) {
+            stringRedisTemplate.delete(tempKey);
+            throw e;
+        }
+    }
+
+    private static String likersKey(String postId) {
+        return LIKERS_KEY_PREFIX + postId;
+    }
+}
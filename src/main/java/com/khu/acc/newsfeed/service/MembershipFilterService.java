@@ -0,0 +1,289 @@
+package com.khu.acc.newsfeed.service;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.ScanResultPage;
+import com.khu.acc.newsfeed.event.FollowEvent;
+import com.khu.acc.newsfeed.event.PostEngagementEvent;
+import com.khu.acc.newsfeed.membership.BloomFilter;
+import com.khu.acc.newsfeed.model.FollowEdge;
+import com.khu.acc.newsfeed.model.Like;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+/**
+ * 팔로우/좋아요 존재 여부 사전 필터
+ * <p>
+ * 존재 확인은 대부분 음성(없음)이므로, 인스턴스마다 {@link BloomFilter} 를 메모리에 두고 "확실히 없음"이면
+ * DynamoDB/Redis 조회 없이 바로 반환한다. 양성일 때만 실제 조회로 확인한다.
+ * <p>
+ * 팔로우/좋아요 추가는 Redis pub/sub 으로 모든 인스턴스에 전파된다. 언팔로우/좋아요 취소는 필터에서 지울 수 없으므로
+ * 주기적으로 테이블 전체를 다시 읽어 새 필터로 교체한다. (예상 항목 수도 이때 다시 계산)
+ * 시작 시에도 같은 방식으로 구축한다. 로컬 스냅샷은 두지 않는데, 스냅샷 이후 항목을 찾는 FilterExpression Scan 도
+ * 테이블 전체를 읽고 과금되므로 전체 구축보다 읽기 비용이 줄지 않기 때문이다.
+ * 필터가 준비되기 전(시작 직후)에는 모든 확인을 실제 조회로 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MembershipFilterService {
+
+    private static final String UPDATE_CHANNEL = "membership:filter:updates";
+    private static final String FOLLOWS_FILTER = "follows";
+    private static final String LIKES_FILTER = "likes";
+    private static final int SCAN_PAGE_SIZE = 1000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final DynamoDBMapper dynamoDBMapper;
+    private final MeterRegistry meterRegistry;
+
+    // 목표 오탐률
+    @Value("${app.membership.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    // 최소 예상 항목 수 (재구축 시 현재 항목 수의 2배와 비교해 큰 값 사용)
+    @Value("${app.membership.expected-follows:1000000}")
+    private long expectedFollows;
+
+    @Value("${app.membership.expected-likes:5000000}")
+    private long expectedLikes;
+
+    private final FilterSlot follows = new FilterSlot(FOLLOWS_FILTER);
+    private final FilterSlot likes = new FilterSlot(LIKES_FILTER);
+
+    @PostConstruct
+    void init() {
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> apply(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(UPDATE_CHANNEL));
+
+        for (FilterSlot slot : List.of(follows, likes)) {
+            Gauge.builder("membership.filter.insertions", slot, s -> s.active != null ? s.active.getInsertions() : 0)
+                    .tag("filter", slot.name).register(meterRegistry);
+            Gauge.builder("membership.filter.expected.fpp", slot,
+                            s -> s.active != null ? s.active.expectedFalsePositiveRate() : 1.0)
+                    .tag("filter", slot.name).register(meterRegistry);
+        }
+    }
+
+    /**
+     * 팔로우 여부 확인 (필터가 음성이면 조회 생략)
+     */
+    public boolean checkFollow(String followerId, String followeeId, BooleanSupplier lookup) {
+        return check(follows, followKey(followerId, followeeId), lookup);
+    }
+
+    /**
+     * 좋아요 여부 확인 (필터가 음성이면 조회 생략)
+     */
+    public boolean checkLike(String userId, String postId, BooleanSupplier lookup) {
+        return check(likes, likeKey(userId, postId), lookup);
+    }
+
+    /**
+     * 팔로우했을 가능성 (false 면 확실히 팔로우하지 않음, 지표 기록 없음)
+     */
+    public boolean mightFollow(String followerId, String followeeId) {
+        return follows.mightContain(followKey(followerId, followeeId));
+    }
+
+    /**
+     * 좋아요했을 가능성 (false 면 확실히 좋아요하지 않음, 지표 기록 없음)
+     */
+    public boolean mightLike(String userId, String postId) {
+        return likes.mightContain(likeKey(userId, postId));
+    }
+
+    /**
+     * 팔로우 추가 반영 (언팔로우는 다음 재구축 때 반영)
+     */
+    @EventListener
+    public void onFollow(FollowEvent event) {
+        if (event.isFollowed()) {
+            publish(follows, followKey(event.getFollowerId(), event.getFolloweeId()));
+        }
+    }
+
+    /**
+     * 좋아요 추가 반영 (좋아요 취소는 다음 재구축 때 반영)
+     */
+    @EventListener
+    public void onEngagement(PostEngagementEvent event) {
+        if (event.getType() == PostEngagementEvent.Type.LIKE) {
+            publish(likes, likeKey(event.getUserId(), event.getPostId()));
+        }
+    }
+
+    /**
+     * 시작 시 전체 구축
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * 삭제된 항목 정리를 위한 주기적 재구축
+     */
+    @Scheduled(initialDelayString = "${app.membership.rebuild-interval-ms:43200000}",
+            fixedDelayString = "${app.membership.rebuild-interval-ms:43200000}")
+    public void rebuild() {
+        build(follows, sizeFor(follows, expectedFollows), FollowEdge.class, "followerId, followeeId",
+                edge -> followKey(edge.getFollowerId(), edge.getFolloweeId()));
+        build(likes, sizeFor(likes, expectedLikes), Like.class, "userId, postId",
+                like -> likeKey(like.getUserId(), like.getPostId()));
+    }
+
+    private boolean check(FilterSlot slot, String key, BooleanSupplier lookup) {
+        if (slot.active == null) {
+            record(slot, "unavailable");
+            return lookup.getAsBoolean();
+        }
+        if (!slot.mightContain(key)) {
+            record(slot, "negative");
+            return false;
+        }
+        boolean present = lookup.getAsBoolean();
+        record(slot, present ? "true_positive" : "false_positive");
+        return present;
+    }
+
+    /**
+     * 테이블을 읽어 필터 구축 후 교체 (구축 중 추가된 항목은 보관했다가 새 필터에 반영)
+     */
+    private <T> void build(FilterSlot slot, BloomFilter filter, Class<T> type, String projection,
+                           Function<T, String> keyOf) {
+        long startedAt = System.currentTimeMillis();
+        slot.beginBuild();
+        try {
+            DynamoDBScanExpression scan = new DynamoDBScanExpression()
+                    .withProjectionExpression(projection)
+                    .withLimit(SCAN_PAGE_SIZE);
+
+            long scanned = 0;
+            do {
+                ScanResultPage<T> page = dynamoDBMapper.scanPage(type, scan);
+                for (T item : page.getResults()) {
+                    filter.put(keyOf.apply(item));
+                }
+                scanned += page.getResults().size();
+                scan.setExclusiveStartKey(page.getLastEvaluatedKey());
+            } while (scan.getExclusiveStartKey() != null);
+
+            slot.finishBuild(filter);
+            log.info("Built {} membership filter from {} rows in {} ms (expected fpp {})", slot.name, scanned,
+                    System.currentTimeMillis() - startedAt, String.format("%.4f", filter.expectedFalsePositiveRate()));
+        } catch (Exception e) {
+            // 기존 필터 유지 (없으면 계속 실제 조회로 처리)
+            slot.abortBuild();
+            log.warn("Failed to build {} membership filter", slot.name, e);
+        }
+    }
+
+    private void publish(FilterSlot slot, String key) {
+        // 현재 인스턴스에는 바로 반영 (같은 요청 흐름의 후속 확인이 음성이 되지 않도록)
+        slot.add(key);
+        try {
+            stringRedisTemplate.convertAndSend(UPDATE_CHANNEL, slot.name + "|" + key);
+        } catch (Exception e) {
+            log.warn("Failed to publish {} membership filter update for {}", slot.name, key, e);
+        }
+    }
+
+    private void apply(String payload) {
+        int separator = payload.indexOf('|');
+        if (separator < 0) {
+            log.warn("Ignoring malformed membership filter update: {}", payload);
+            return;
+        }
+        String name = payload.substring(0, separator);
+        String key = payload.substring(separator + 1);
+        if (FOLLOWS_FILTER.equals(name)) {
+            follows.add(key);
+        } else if (LIKES_FILTER.equals(name)) {
+            likes.add(key);
+        }
+    }
+
+    private BloomFilter sizeFor(FilterSlot slot, long expected) {
+        BloomFilter current = slot.active;
+        long size = current != null ? Math.max(expected, current.getInsertions() * 2) : expected;
+        return BloomFilter.create(size, falsePositiveRate);
+    }
+
+    private void record(FilterSlot slot, String result) {
+        meterRegistry.counter("membership.filter.checks", "filter", slot.name, "result", result).increment();
+    }
+
+    private static String followKey(String followerId, String followeeId) {
+        return followerId + "|" + followeeId;
+    }
+
+    private static String likeKey(String userId, String postId) {
+        return userId + "|" + postId;
+    }
+
+    /**
+     * 사용 중인 필터와 구축 중 추가된 항목
+     */
+    private static final class FilterSlot {
+
+        private final String name;
+        // 준비 전에는 null (모든 확인을 양성으로 처리)
+        private volatile BloomFilter active;
+        // 구축 중일 때만 non-null
+        private List<String> pending;
+
+        private FilterSlot(String name) {
+            this.name = name;
+        }
+
+        boolean mightContain(String key) {
+            BloomFilter filter = active;
+            return filter == null || filter.mightContain(key);
+        }
+
+        synchronized void add(String key) {
+            if (active != null) {
+                active.put(key);
+            }
+            if (pending != null) {
+                pending.add(key);
+            }
+        }
+
+        synchronized void beginBuild() {
+            pending = new ArrayList<>();
+        }
+
+        synchronized void finishBuild(BloomFilter built) {
+            pending.forEach(built::put);
+            pending = null;
+            active = built;
+        }
+
+        synchronized void abortBuild() {
+            pending = null;
+        }
+    }
+}
@@ -1,24 +1,33 @@
 package com.khu.acc.newsfeed.service;
 
+import com.khu.acc.newsfeed.dto.CursorPage;
+import com.khu.acc.newsfeed.dto.FeedCursor;
 import com.khu.acc.newsfeed.dto.PostResponse;
+import com.khu.acc.newsfeed.dto.UserPersonalizationData;
+import com.khu.acc.newsfeed.dto.UserResponse;
 import com.khu.acc.newsfeed.model.Post;
 import com.khu.acc.newsfeed.model.User;
 import com.khu.acc.newsfeed.repository.PostRepository;
 import com.khu.acc.newsfeed.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -31,126 +40,245 @@ public class NewsFeedService {
     private final UserRepository userRepository;
     private final FollowService followService;
     private final PersonalizationService personalizationService;
+    private final TimelineService timelineService;
+    private final FeedCandidateEngine feedCandidateEngine;
+    private final TrendingService trendingService;
+    private final UserHydrationService userHydrationService;
+    private final FeedStageExecutor feedStageExecutor;
+    private final FeedCacheGenerationService feedCacheGenerationService;
+    private final LikerIndexService likerIndexService;
+    private final CounterBufferService counterBufferService;
+    private final MeterRegistry meterRegistry;
+
+    // 팔로잉 피드 조회 방식 (true: 타임라인 fan-out-on-write, false: 조회 시점 pull)
+    @Value("${app.feed.timeline.enabled:true}")
+    private boolean timelineEnabled;
+
+    // 피드 조립 요청 단위 마감 시간
+    @Value("${app.feed.assembly.deadline:800ms}")
+    private Duration assemblyDeadline;
 
     /**
-     * 사용자의 개인화된 뉴스 피드 조회 (캐시 적용)
+     * 사용자의 개인화된 뉴스 피드 조회 (첫 페이지만 캐시 적용)
+     * <p>
+     * 커서 이후 최신순 limit 개 후보를 개인화 점수로 정렬하고, 후보 중 가장 오래된 포스트를 다음 커서로 반환한다.
+     * 독립적인 조립 단계는 동시에 실행하며, 마감 시간을 넘긴 단계는 생략하고 완료된 결과로 응답한다. (생략된 응답은 캐시하지 않음)
+     * 캐시 미스는 키 단위로 병합되어 동시 요청 중 하나만 피드를 조립한다.
      */
-    @Cacheable(value = "newsFeed", key = "#userId + '_' + #pageable.pageNumber + '_' + #pageable.pageSize")
-    public List<PostResponse> getPersonalizedNewsFeed(String userId, Pageable pageable) {
+    @Cacheable(value = "newsFeed", key = "@feedCacheGenerationService.versionedKey(#userId, #limit)",
+            condition = "#cursor == null", sync = true)
+    public CursorPage<PostResponse> getPersonalizedNewsFeed(String userId, String cursor, int limit) {
         log.info("Generating personalized news feed for user: {}", userId);
+        FeedCursor feedCursor = FeedCursor.decode(cursor);
+        long deadline = System.nanoTime() + assemblyDeadline.toNanos();
 
         try {
-            // 1. 팔로잉 기반 피드 가져오기
-            List<Post> followingPosts = getFollowingPosts(userId, pageable);
-
-            // 2. 개인화 점수 계산 및 정렬
-            List<PostResponse> personalizedPosts = personalizationService
-                    .calculatePersonalizationScores(userId, followingPosts)
-                    .stream()
-                    .map(this::convertToPostResponse)
+            // 1. 후보 조회와 개인화 데이터 조회를 동시에 시작 (조회 방식별 지연 시간 기록)
+            String source = timelineEnabled ? "timeline" : "pull";
+            Future<CursorPage<Post>> candidatesFuture = feedStageExecutor.submit("candidates",
+                    () -> feedReadTimer(source).record(() -> timelineEnabled
+                            ? getTimelinePosts(userId, feedCursor, limit)
+                            : getFollowingPosts(userId, feedCursor, limit)));
+            Future<UserPersonalizationData> userDataFuture = feedStageExecutor.submit("personalization",
+                    () -> personalizationService.getUserPersonalizationData(userId));
+
+            CursorPage<Post> candidates = feedStageExecutor.await("candidates", candidatesFuture, deadline, null);
+            if (candidates == null) {
+                // 후보 없이는 응답할 수 없으므로 빈 부분 응답 반환
+                feedStageExecutor.cancelAll(userDataFuture);
+                return partial(CursorPage.empty());
+            }
+            List<Post> followingPosts = candidates.getItems();
+
+            if (followingPosts.isEmpty() && candidates.getNextCursor() == null && feedCursor == null) {
+                feedStageExecutor.cancelAll(userDataFuture);
+                log.info("User {} has no following posts. Returning trending posts", userId);
+                return CursorPage.last(toResponses(getTrendingPosts(limit)));
+            }
+
+            // 2. 후보가 확정되면 작성자 하이드레이션과 좋아요 상태 조회를 동시에 시작
+            Future<Map<String, UserResponse>> authorsFuture = feedStageExecutor.submit("authors",
+                    () -> userHydrationService.resolve(
+                            followingPosts.stream().map(Post::getUserId).collect(Collectors.toList())));
+            Future<Set<String>> likedFuture = feedStageExecutor.submit("likeState",
+                    () -> findLikedPostIds(userId, followingPosts));
+
+            // 3. 개인화 점수 계산 및 정렬 (개인화 데이터가 늦으면 기본 데이터로 점수 계산)
+            UserPersonalizationData userData = feedStageExecutor.await("personalization", userDataFuture, deadline, null);
+            List<Post> rankedPosts = personalizationService.calculatePersonalizationScores(
+                    followingPosts, userData != null ? userData : new UserPersonalizationData(null, null, null));
+
+            Map<String, UserResponse> authors = feedStageExecutor.await("authors", authorsFuture, deadline, null);
+            Set<String> likedPostIds = feedStageExecutor.await("likeState", likedFuture, deadline, null);
+
+            List<PostResponse> personalizedPosts = rankedPosts.stream()
+                    .map(post -> convertToPostResponse(post,
+                            authors != null ? authors : Collections.emptyMap(), likedPostIds))
                     .collect(Collectors.toList());
+            counterBufferService.applyPending(personalizedPosts);
 
+            CursorPage<PostResponse> page = CursorPage.of(personalizedPosts, candidates.getNextCursor());
             log.info("Generated {} personalized posts for user: {}", personalizedPosts.size(), userId);
-            return personalizedPosts;
+            return userData == null || authors == null || likedPostIds == null ? partial(page) : page;
 
         } catch (Exception e) {
             log.error("Error generating personalized feed for user: {}", userId, e);
             // 오류 시 기본 피드 반환
-            return getDefaultFeed(pageable);
+            return getDefaultFeed(limit);
         }
     }
 
     /**
-     * 관심사 기반 개인화 피드
+     * 개인화 피드 첫 페이지 재계산 (캐시 미리 갱신용, 캐시를 거치지 않음)
+     */
+    public CursorPage<PostResponse> recomputePersonalizedNewsFeed(String userId, int limit) {
+        return getPersonalizedNewsFeed(userId, null, limit);
+    }
+
+    /**
+     * 관심사 기반 피드 첫 페이지 재계산 (캐시 미리 갱신용, 캐시를 거치지 않음)
+     */
+    public CursorPage<PostResponse> recomputeInterestBasedFeed(String userId, int limit) {
+        return getInterestBasedFeed(userId, null, limit);
+    }
+
+    /**
+     * 관심사 기반 개인화 피드 (첫 페이지만 캐시 적용)
      */
-    @Cacheable(value = "userFeed", key = "#userId + '_interests_' + #pageable.pageNumber")
-    public List<PostResponse> getInterestBasedFeed(String userId, Pageable pageable) {
+    @Cacheable(value = "userFeed", key = "@feedCacheGenerationService.versionedKey(#userId, 'interests_' + #limit)",
+            condition = "#cursor == null", sync = true)
+    public CursorPage<PostResponse> getInterestBasedFeed(String userId, String cursor, int limit) {
         log.info("Generating interest-based feed for user: {}", userId);
 
         Optional<User> userOpt = userRepository.findById(userId);
         if (userOpt.isEmpty()) {
-            return getDefaultFeed(pageable);
+            return getDefaultFeed(limit);
         }
 
         User user = userOpt.get();
         if (user.getInterests() == null || user.getInterests().isEmpty()) {
             // 관심사가 없는 경우 팔로잉 기반 피드 반환
-            return getPersonalizedNewsFeed(userId, pageable);
+            return getPersonalizedNewsFeed(userId, cursor, limit);
         }
 
         // 관심사 태그가 포함된 포스트 검색
-        List<Post> interestPosts = personalizationService.getPostsByUserInterests(user, pageable);
+        CursorPage<Post> interestPosts = personalizationService.getPostsByUserInterests(
+                user, FeedCursor.decode(cursor), limit);
 
-        return interestPosts.stream()
-                .map(this::convertToPostResponse)
-                .collect(Collectors.toList());
+        return CursorPage.of(toResponses(interestPosts.getItems()), interestPosts.getNextCursor());
+    }
+
+    /**
+     * 타임라인 저장소에서 팔로잉 포스트 조회
+     */
+    private CursorPage<Post> getTimelinePosts(String userId, FeedCursor cursor, int limit) {
+        List<String> followingUserIds = followService.getFollowingUserIds(userId);
+        return timelineService.getTimelinePosts(userId, followingUserIds, cursor, limit);
     }
 
     /**
      * 팔로잉한 사용자들의 포스트 조회
      */
-    private List<Post> getFollowingPosts(String userId, Pageable pageable) {
+    private CursorPage<Post> getFollowingPosts(String userId, FeedCursor cursor, int limit) {
         // 팔로잉 사용자 ID 목록 조회
         List<String> followingUserIds = followService.getFollowingUserIds(userId);
 
         if (followingUserIds.isEmpty()) {
-            log.info("User {} has no following. Returning trending posts", userId);
-            return getTrendingPosts(pageable);
+            return CursorPage.empty();
         }
 
-        // 팔로잉 사용자들의 최근 포스트 조회
+        // 팔로잉 사용자들의 최근 포스트 조회 (작성자별 UserPostsIndex Query + k-way 병합)
+        // 병합 중 비활성 포스트를 건너뛰며 limit 개를 채우므로 덜 찬 윈도우는 마지막 페이지
         Instant since = Instant.now().minus(7, ChronoUnit.DAYS); // 최근 7일
-        return postRepository.findByUserIdInAndCreatedAtAfterAndIsActiveTrueOrderByCreatedAtDesc(
-                followingUserIds, since, pageable);
+        List<Post> posts = feedCandidateEngine.fetchLatest(followingUserIds, since, cursor, limit);
+        return CursorPage.of(posts, FeedCursor.nextOf(posts, limit));
     }
 
     /**
      * 트렌딩 포스트 조회 (팔로잉이 없는 경우 대체)
      */
-    private List<Post> getTrendingPosts(Pageable pageable) {
-        Instant since = Instant.now().minus(1, ChronoUnit.DAYS); // 최근 24시간
-        return postRepository.findByCreatedAtAfterAndIsActiveTrueOrderByLikesCountDescCommentsCountDesc(
-                since, pageable);
+    private List<Post> getTrendingPosts(int limit) {
+        return trendingService.getTrendingPosts(0, limit).getItems();
     }
 
     /**
      * 기본 피드 (오류 시 대체)
      */
-    private List<PostResponse> getDefaultFeed(Pageable pageable) {
+    private CursorPage<PostResponse> getDefaultFeed(int limit) {
         log.info("Returning default feed");
-        List<Post> posts = postRepository.findByIsActiveTrueOrderByCreatedAtDesc(pageable);
-        return posts.stream()
-                .map(this::convertToPostResponse)
+        List<Post> posts = postRepository.findByIsActiveTrueOrderByCreatedAtDesc(PageRequest.of(0, limit));
+        return CursorPage.last(toResponses(posts));
+    }
+
+    /**
+     * Post 목록을 PostResponse 로 변환 (작성자 정보는 한 번에 일괄 조회)
+     */
+    private List<PostResponse> toResponses(List<Post> posts) {
+        Map<String, UserResponse> authors = userHydrationService.resolve(
+                posts.stream().map(Post::getUserId).collect(Collectors.toList()));
+
+        List<PostResponse> responses = posts.stream()
+                .map(post -> convertToPostResponse(post, authors, null))
                 .collect(Collectors.toList());
+        counterBufferService.applyPending(responses);
+        return responses;
+    }
+
+    /**
+     * 후보 포스트 중 사용자가 좋아요한 포스트 ID 조회 (포스트별 좋아요 사용자 집합, Redis 왕복 1회)
+     */
+    private Set<String> findLikedPostIds(String userId, List<Post> posts) {
+        return likerIndexService.findLikedPostIds(userId,
+                posts.stream().map(Post::getPostId).collect(Collectors.toList()));
+    }
+
+    private CursorPage<PostResponse> partial(CursorPage<PostResponse> page) {
+        meterRegistry.counter("feed.assembly.partial").increment();
+        page.setPartial(true);
+        return page;
+    }
+
+    /**
+     * 피드 조회 지연 시간 타이머 (p50/p99 비교용)
+     */
+    private Timer feedReadTimer(String source) {
+        return Timer.builder("feed.read")
+                .description("Following feed candidate read latency")
+                .tag("source", source)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
     }
 
     /**
      * Post를 PostResponse로 변환
      */
-    private PostResponse convertToPostResponse(Post post) {
+    private PostResponse convertToPostResponse(Post post, Map<String, UserResponse> authors, Set<String> likedPostIds) {
         PostResponse response = PostResponse.from(post);
 
         // 작성자 정보 추가
-        userRepository.findById(post.getUserId())
-                .ifPresent(user -> response.setAuthor(
-                        com.khu.acc.newsfeed.dto.UserResponse.from(user)));
+        response.setAuthor(authors.get(post.getUserId()));
+
+        // 좋아요 상태 추가 (조회하지 못한 경우 null)
+        if (likedPostIds != null) {
+            response.setIsLikedByCurrentUser(likedPostIds.contains(post.getPostId()));
+        }
 
         return response;
     }
 
     /**
-     * 사용자 피드 캐시 무효화
+     * 사용자 피드 캐시 무효화 (사용자 세대 증가, 이전 페이지는 TTL 로 만료)
      */
-    @CacheEvict(value = {"newsFeed", "userFeed"}, key = "#userId + '*'")
     public void invalidateUserFeedCache(String userId) {
+        feedCacheGenerationService.invalidate(userId);
         log.info("Invalidated feed cache for user: {}", userId);
     }
 
     /**
-     * 전체 피드 캐시 새로고침
+     * 전체 피드 캐시 새로고침 (전역 세대 증가)
      */
-    @CacheEvict(value = {"newsFeed", "userFeed"}, allEntries = true)
     public void refreshAllFeedCache() {
+        feedCacheGenerationService.invalidateAll();
         log.info("Refreshed all feed cache");
     }
 
@@ -1,12 +1,16 @@
 package com.khu.acc.newsfeed.service;
 
 import com.khu.acc.newsfeed.dto.NotificationResponse;
+import com.khu.acc.newsfeed.dto.UserResponse;
 import com.khu.acc.newsfeed.model.Notification;
 import com.khu.acc.newsfeed.model.User;
 import com.khu.acc.newsfeed.repository.NotificationRepository;
 import com.khu.acc.newsfeed.repository.UserRepository;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
@@ -19,14 +23,21 @@ public class NotificationService {
 
     private final UserRepository userRepository;
     private final NotificationRepository notificationRepository;
+    private final UserHydrationService userHydrationService;
 
     public List<NotificationResponse> getNotifications(UserDetails userDetails) {
         User user = userRepository.findByUsername(userDetails.getUsername()).orElseThrow();
         List<Notification> notifications = notificationRepository.findTop10ByUserIdOrderByCreatedAtDesc(
             user.getUserId());
+        // 알림 발신자 정보 일괄 조회
+        Map<String, UserResponse> fromUsers = userHydrationService.resolve(
+            notifications.stream().map(Notification::getFromUserId).collect(Collectors.toList()));
         List<NotificationResponse> notificationResponses = new ArrayList<>();
         for (final Notification notification : notifications) {
-            User fromUser = userRepository.findById(notification.getFromUserId()).orElseThrow();
+            UserResponse fromUser = fromUsers.get(notification.getFromUserId());
+            if (fromUser == null) {
+                throw new NoSuchElementException("User not found: " + notification.getFromUserId());
+            }
             notificationResponses.add(NotificationResponse.fromNotification(notification, fromUser.getUsername()));
         }
         return notificationResponses;
@@ -1,11 +1,231 @@
 package com.khu.acc.newsfeed.service;
 
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import com.khu.acc.newsfeed.dto.CursorPage;
+import com.khu.acc.newsfeed.dto.FeedCursor;
+import com.khu.acc.newsfeed.dto.PostCreateRequest;
+import com.khu.acc.newsfeed.dto.PostResponse;
+import com.khu.acc.newsfeed.dto.PostUpdateRequest;
+import com.khu.acc.newsfeed.exception.ResourceNotFoundException;
+import com.khu.acc.newsfeed.model.Post;
+import com.khu.acc.newsfeed.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Slf4j
 @Transactional
 @Service
 @RequiredArgsConstructor
 public class PostService {
+
+    // null 인 속성은 쓰지 않는 UpdateItem (카운터를 비워 두고 저장)
+    private static final DynamoDBMapperConfig SKIP_NULL_ATTRIBUTES = DynamoDBMapperConfig.builder()
+            .withSaveBehavior(DynamoDBMapperConfig.SaveBehavior.UPDATE_SKIP_NULL_ATTRIBUTES)
+            .build();
+
+    private final PostRepository postRepository;
+    private final DynamoDBMapper dynamoDBMapper;
+    private final TimelineService timelineService;
+    private final FeedCandidateEngine feedCandidateEngine;
+    private final TrendingService trendingService;
+    private final TagIndexService tagIndexService;
+    private final SearchIndexService searchIndexService;
+    private final CounterService counterService;
+    private final CounterBufferService counterBufferService;
+
+    /**
+     * 포스트 작성
+     */
+    public Post createPost(String userId, PostCreateRequest request) {
+        Instant now = Instant.now();
+        Post post = Post.builder()
+                .postId(generatePostId())
+                .userId(userId)
+                .content(request.getContent())
+                .imageUrls(request.getImageUrls())
+                .tags(request.getTags())
+                .location(request.getLocation())
+                .likesCount(0L)
+                .commentsCount(0L)
+                .isActive(true)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+
+        Post savedPost = postRepository.save(post);
+        counterService.increment(CounterService.Counter.USER_POSTS, userId);
+
+        // 태그/검색 인덱스 갱신 및 팔로워 타임라인에 전파
+        tagIndexService.index(savedPost);
+        searchIndexService.indexPost(savedPost);
+        timelineService.fanOutPost(savedPost);
+
+        log.info("User {} created post {}", userId, savedPost.getPostId());
+        return savedPost;
+    }
+
+    /**
+     * 포스트 수정 (작성자만 가능)
+     */
+    public Post updatePost(String userId, String postId, PostUpdateRequest request) {
+        Post post = postRepository.findById(postId)
+                .filter(p -> Boolean.TRUE.equals(p.getIsActive()))
+                .orElseThrow(() -> ResourceNotFoundException.post(postId));
+
+        if (!post.getUserId().equals(userId)) {
+            throw new AccessDeniedException("Only the author can update this post");
+        }
+
+        Set<String> previousTags = post.getTags();
+        if (request.getContent() != null) {
+            post.setContent(request.getContent());
+        }
+        if (request.getTags() != null) {
+            post.setTags(request.getTags());
+        }
+        if (request.getLocation() != null) {
+            post.setLocation(request.getLocation());
+        }
+        post.setUpdatedAt(Instant.now());
+
+        Post savedPost = saveWithoutCounters(post);
+
+        // 변경된 태그/내용 반영
+        tagIndexService.index(savedPost, previousTags);
+        searchIndexService.indexPost(savedPost);
+
+        log.info("User {} updated post {}", userId, postId);
+        return savedPost;
+    }
+
+    /**
+     * 포스트 삭제 (작성자만 가능, isActive=false 로 비활성화)
+     * <p>
+     * 항목은 남기고 태그/검색 인덱스와 팔로워 타임라인에서만 제거한다. 트렌딩/피드 조회는 하이드레이션 시 비활성 포스트를 거른다.
+     */
+    public void deletePost(String userId, String postId) {
+        Post post = postRepository.findById(postId)
+                .filter(p -> Boolean.TRUE.equals(p.getIsActive()))
+                .orElseThrow(() -> ResourceNotFoundException.post(postId));
+
+        if (!post.getUserId().equals(userId)) {
+            throw new AccessDeniedException("Only the author can delete this post");
+        }
+
+        post.setIsActive(false);
+        post.setUpdatedAt(Instant.now());
+        Post savedPost = saveWithoutCounters(post);
+        counterService.decrement(CounterService.Counter.USER_POSTS, userId);
+
+        // 비활성 포스트는 인덱스에서 빠지므로 기존 태그를 모두 제거
+        tagIndexService.index(savedPost, savedPost.getTags());
+        searchIndexService.indexPost(savedPost);
+        timelineService.removePost(savedPost);
+
+        log.info("User {} deleted post {}", userId, postId);
+    }
+
+    /**
+     * 좋아요/댓글 수를 제외한 속성만 저장
+     * <p>
+     * 읽어 둔 카운터 값으로 덮어쓰면 그 사이 UpdateItem ADD(CounterService, 지연 쓰기 반영)로 더해진 값이 사라지므로
+     * 카운터 필드를 비운 채 UPDATE_SKIP_NULL_ATTRIBUTES 로 저장하고, 반환 전에 읽어 둔 값으로 되돌린다.
+     */
+    private Post saveWithoutCounters(Post post) {
+        Long likesCount = post.getLikesCount();
+        Long commentsCount = post.getCommentsCount();
+        post.setLikesCount(null);
+        post.setCommentsCount(null);
+        try {
+            dynamoDBMapper.save(post, SKIP_NULL_ATTRIBUTES);
+        } finally {
+            post.setLikesCount(likesCount);
+            post.setCommentsCount(commentsCount);
+        }
+        return post;
+    }
+
+    /**
+     * 사용자 포스트 조회 (UserPostsIndex 커서 Query)
+     */
+    public CursorPage<PostResponse> getUserPosts(String userId, String cursor, int limit) {
+        List<Post> posts = feedCandidateEngine.fetchLatest(
+                List.of(userId), Instant.EPOCH, FeedCursor.decode(cursor), limit);
+        return CursorPage.of(toResponses(posts), FeedCursor.nextOf(posts, limit));
+    }
+
+    /**
+     * 태그별 포스트 조회 (태그 인덱스 기반, 커서 이후 최신순)
+     */
+    public CursorPage<PostResponse> getPostsByTag(String tag, String cursor, int limit) {
+        CursorPage<Post> posts = tagIndexService.findLatestPosts(List.of(tag), FeedCursor.decode(cursor), limit);
+        return CursorPage.of(toResponses(posts.getItems()), posts.getNextCursor());
+    }
+
+    /**
+     * 태그가 포함된 포스트 수
+     */
+    public long countPostsByTag(String tag) {
+        return tagIndexService.countPosts(tag);
+    }
+
+    /**
+     * 트렌딩 포스트 조회 (리더보드 순위 offset 커서)
+     */
+    public CursorPage<PostResponse> getTrendingPosts(String cursor, int limit) {
+        FeedCursor feedCursor = FeedCursor.decodeOffset(cursor);
+        int offset = feedCursor != null ? feedCursor.getOffset() : 0;
+
+        CursorPage<Post> posts = trendingService.getTrendingPosts(offset, limit);
+        return CursorPage.of(toResponses(posts.getItems()), posts.getNextCursor());
+    }
+
+    /**
+     * 포스트 내용 검색 (검색 인덱스 기반, 관련도 + 최신성 순)
+     */
+    public List<PostResponse> searchPosts(String query, int limit) {
+        List<String> postIds = searchIndexService.searchPosts(query, limit);
+        if (postIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<String, Post> postsById = new HashMap<>();
+        postRepository.findAllById(postIds)
+                .forEach(post -> postsById.put(post.getPostId(), post));
+
+        return toResponses(postIds.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .filter(post -> Boolean.TRUE.equals(post.getIsActive()))
+                .collect(Collectors.toList()));
+    }
+
+    private List<PostResponse> toResponses(List<Post> posts) {
+        List<PostResponse> responses = posts.stream()
+                .map(PostResponse::from)
+                .collect(Collectors.toList());
+        counterBufferService.applyPending(responses);
+        return responses;
+    }
+
+    /**
+     * Post ID 생성
+     */
+    private String generatePostId() {
+        return "post_" + UUID.randomUUID().toString().replace("-", "");
+    }
 }
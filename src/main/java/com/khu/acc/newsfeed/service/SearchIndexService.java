@@ -0,0 +1,290 @@
+package com.khu.acc.newsfeed.service;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBQueryExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.QueryResultPage;
+import com.amazonaws.services.dynamodbv2.datamodeling.ScanResultPage;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.khu.acc.newsfeed.model.ChangedDay;
+import com.khu.acc.newsfeed.model.Post;
+import com.khu.acc.newsfeed.model.User;
+import com.khu.acc.newsfeed.search.InvertedIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 포스트 내용/사용자명 전문 검색 인덱스
+ * <p>
+ * 인스턴스마다 {@link InvertedIndex} 를 메모리에 유지한다. 포스트/사용자 변경은 Redis pub/sub 으로 모든 인스턴스에 전파되어 증분 반영되고,
+ * 주기적으로 로컬 디스크에 스냅샷을 저장해 재시작 시 스냅샷 + 이후 변경분만 다시 읽는다.
+ * 변경분은 Posts/Users 의 ChangedIndex(변경 일자 파티션)를 Query 하므로 테이블 전체를 읽지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchIndexService {
+
+    private static final String UPDATE_CHANNEL = "search:index:updates";
+    private static final String POSTS_INDEX = "posts";
+    private static final String USERS_INDEX = "users";
+    private static final int SCAN_PAGE_SIZE = 500;
+    private static final int BATCH_LOAD_SIZE = 100;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final DynamoDBMapper dynamoDBMapper;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    // 스냅샷 저장 디렉터리
+    @Value("${app.search.snapshot-dir:${java.io.tmpdir}/newsfeed-search}")
+    private String snapshotDir;
+
+    // 최신성 점수 반감기
+    @Value("${app.search.recency-half-life:3d}")
+    private Duration recencyHalfLife;
+
+    // 최종 점수에서 최신성 비중 (0 ~ 1)
+    @Value("${app.search.recency-weight:0.3}")
+    private double recencyWeight;
+
+    private final InvertedIndex postIndex = new InvertedIndex();
+    private final InvertedIndex userIndex = new InvertedIndex();
+    private long postSnapshotModCount = -1;
+    private long userSnapshotModCount = -1;
+
+    /**
+     * 인덱스 변경 메시지
+     */
+    public record IndexUpdate(String index, String key, String text, long timestamp, long modifiedAt, boolean active) {
+    }
+
+    @PostConstruct
+    void init() {
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> apply(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(UPDATE_CHANNEL));
+
+        Gauge.builder("search.index.documents", postIndex, InvertedIndex::size)
+                .tag("index", POSTS_INDEX).register(meterRegistry);
+        Gauge.builder("search.index.documents", userIndex, InvertedIndex::size)
+                .tag("index", USERS_INDEX).register(meterRegistry);
+    }
+
+    /**
+     * 포스트 변경 반영 (모든 인스턴스에 전파)
+     */
+    public void indexPost(Post post) {
+        publish(new IndexUpdate(POSTS_INDEX, post.getPostId(), post.getContent(),
+                post.getCreatedAt().toEpochMilli(), modifiedAt(post.getUpdatedAt()),
+                Boolean.TRUE.equals(post.getIsActive())));
+    }
+
+    /**
+     * 사용자 변경 반영 (모든 인스턴스에 전파)
+     */
+    public void indexUser(User user) {
+        publish(new IndexUpdate(USERS_INDEX, user.getUserId(), userText(user),
+                user.getCreatedAt() != null ? user.getCreatedAt().toEpochMilli() : 0L,
+                modifiedAt(user.getUpdatedAt()), !"false".equals(user.getIsActive())));
+    }
+
+    /**
+     * 포스트 내용 검색 (관련도 + 최신성 순 포스트 ID)
+     */
+    public List<String> searchPosts(String query, int limit) {
+        return searchTimer(POSTS_INDEX).record(() ->
+                postIndex.search(query, limit, System.currentTimeMillis(), recencyHalfLife.toMillis(), recencyWeight));
+    }
+
+    /**
+     * 사용자명/표시 이름 검색 (관련도 + 최신성 순 사용자 ID)
+     */
+    public List<String> searchUsers(String query, int limit) {
+        return searchTimer(USERS_INDEX).record(() ->
+                userIndex.search(query, limit, System.currentTimeMillis(), recencyHalfLife.toMillis(), recencyWeight));
+    }
+
+    /**
+     * 시작 시 스냅샷 로드 후 이후 변경분 반영 (스냅샷이 없으면 전체 구축)
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        restore(postIndex, POSTS_INDEX, Post.class, "postId, content, createdAt, updatedAt, isActive",
+                post -> applyLocal(new IndexUpdate(POSTS_INDEX, post.getPostId(), post.getContent(),
+                        post.getCreatedAt() != null ? post.getCreatedAt().toEpochMilli() : 0L,
+                        modifiedAt(post.getUpdatedAt()), Boolean.TRUE.equals(post.getIsActive()))));
+        restore(userIndex, USERS_INDEX, User.class, "userId, username, displayName, createdAt, updatedAt, isActive",
+                user -> applyLocal(new IndexUpdate(USERS_INDEX, user.getUserId(), userText(user),
+                        user.getCreatedAt() != null ? user.getCreatedAt().toEpochMilli() : 0L,
+                        modifiedAt(user.getUpdatedAt()), !"false".equals(user.getIsActive()))));
+    }
+
+    /**
+     * 변경된 인덱스 스냅샷 저장
+     */
+    @Scheduled(fixedDelayString = "${app.search.snapshot-interval-ms:300000}")
+    @PreDestroy
+    public synchronized void snapshot() {
+        postSnapshotModCount = writeSnapshot(postIndex, POSTS_INDEX, postSnapshotModCount);
+        userSnapshotModCount = writeSnapshot(userIndex, USERS_INDEX, userSnapshotModCount);
+    }
+
+    private <T> void restore(InvertedIndex index, String name, Class<T> type, String projection, Consumer<T> loader) {
+        Path file = snapshotPath(name);
+        if (Files.exists(file)) {
+            try {
+                index.readSnapshot(file);
+                log.info("Loaded {} search index snapshot with {} documents", name, index.size());
+            } catch (IOException e) {
+                log.warn("Failed to load {} search index snapshot, rebuilding", name, e);
+            }
+        }
+
+        // 스냅샷 이후 변경분은 ChangedIndex Query 로, 스냅샷이 없으면 전체 Scan 으로 읽어서 반영
+        long since = index.getWatermark();
+        long loaded = since > 0 ? loadChangedSince(type, since, loader) : loadAll(type, projection, loader);
+        log.info("Caught up {} search index with {} {} documents", name, loaded, since > 0 ? "changed" : "loaded");
+    }
+
+    /**
+     * since 이후 변경된 항목만 읽음 (날짜별 모든 샤드 파티션을 Query, 인덱스는 키만 투영하므로 원본은 BatchGetItem)
+     */
+    private <T> long loadChangedSince(Class<T> type, long since, Consumer<T> loader) {
+        Instant sinceInstant = Instant.ofEpochMilli(since);
+        long loaded = 0;
+        for (String partition : ChangedDay.between(sinceInstant, Instant.now())) {
+            DynamoDBQueryExpression<T> query = new DynamoDBQueryExpression<T>()
+                    .withIndexName(ChangedDay.INDEX)
+                    .withConsistentRead(false)
+                    .withKeyConditionExpression(ChangedDay.ATTRIBUTE + " = :partition AND updatedAt > :since")
+                    .withExpressionAttributeValues(Map.of(
+                            ":partition", new AttributeValue().withS(partition),
+                            ":since", new AttributeValue().withS(sinceInstant.toString())))
+                    .withLimit(BATCH_LOAD_SIZE);
+            Map<String, AttributeValue> startKey = null;
+            do {
+                QueryResultPage<T> page = dynamoDBMapper.queryPage(type, query.withExclusiveStartKey(startKey));
+                if (!page.getResults().isEmpty()) {
+                    dynamoDBMapper.batchLoad(page.getResults()).values().stream()
+                            .flatMap(List::stream)
+                            .map(type::cast)
+                            .forEach(loader);
+                    loaded += page.getResults().size();
+                }
+                startKey = page.getLastEvaluatedKey();
+            } while (startKey != null);
+        }
+        return loaded;
+    }
+
+    /**
+     * 전체 항목 읽기 (스냅샷이 없을 때 1회성 Scan)
+     */
+    private <T> long loadAll(Class<T> type, String projection, Consumer<T> loader) {
+        DynamoDBScanExpression scan = new DynamoDBScanExpression()
+                .withProjectionExpression(projection)
+                .withLimit(SCAN_PAGE_SIZE);
+
+        long loaded = 0;
+        do {
+            ScanResultPage<T> page = dynamoDBMapper.scanPage(type, scan);
+            page.getResults().forEach(loader);
+            loaded += page.getResults().size();
+            scan.setExclusiveStartKey(page.getLastEvaluatedKey());
+        } while (scan.getExclusiveStartKey() != null);
+        return loaded;
+    }
+
+    private long writeSnapshot(InvertedIndex index, String name, long lastModCount) {
+        long modCount = index.getModCount();
+        if (modCount == lastModCount) {
+            return lastModCount;
+        }
+        try {
+            index.writeSnapshot(snapshotPath(name));
+            return modCount;
+        } catch (IOException e) {
+            log.warn("Failed to write {} search index snapshot", name, e);
+            return lastModCount;
+        }
+    }
+
+    private void publish(IndexUpdate update) {
+        try {
+            stringRedisTemplate.convertAndSend(UPDATE_CHANNEL, objectMapper.writeValueAsString(update));
+        } catch (Exception e) {
+            // 전파 실패 시 최소한 현재 인스턴스에는 반영
+            log.warn("Failed to publish search index update for {}", update.key(), e);
+            applyLocal(update);
+        }
+    }
+
+    private void apply(String payload) {
+        try {
+            applyLocal(objectMapper.readValue(payload, IndexUpdate.class));
+        } catch (Exception e) {
+            log.warn("Ignoring malformed search index update: {}", payload, e);
+        }
+    }
+
+    private void applyLocal(IndexUpdate update) {
+        InvertedIndex index = POSTS_INDEX.equals(update.index()) ? postIndex : userIndex;
+        if (update.active()) {
+            index.upsert(update.key(), update.text(), update.timestamp(), update.modifiedAt());
+        } else {
+            index.remove(update.key(), update.modifiedAt());
+        }
+        meterRegistry.counter("search.index.updates", "index", update.index()).increment();
+    }
+
+    private Timer searchTimer(String index) {
+        return Timer.builder("search.query")
+                .description("Full-text search latency")
+                .tag("index", index)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    private Path snapshotPath(String name) {
+        return Paths.get(snapshotDir, name + ".idx");
+    }
+
+    private static String userText(User user) {
+        return user.getDisplayName() != null
+                ? user.getUsername() + " " + user.getDisplayName()
+                : user.getUsername();
+    }
+
+    private static long modifiedAt(Instant updatedAt) {
+        return updatedAt != null ? updatedAt.toEpochMilli() : System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,232 @@
+package com.khu.acc.newsfeed.service;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.ScanResultPage;
+import com.khu.acc.newsfeed.dto.CursorPage;
+import com.khu.acc.newsfeed.dto.FeedCursor;
+import com.khu.acc.newsfeed.model.Post;
+import com.khu.acc.newsfeed.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * 태그 인덱스 (쓰기 시점 유지)
+ * <p>
+ * 태그별 Redis Sorted Set(score = createdAt)에 포스트 ID를 저장해
+ * 태그 조회와 개수 집계가 Posts 테이블 Scan 없이 범위 조회/ZCARD 로 처리되도록 한다.
+ * 포스트 저장/수정 시 갱신하고, 기존 포스트는 백필 작업으로 채운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TagIndexService {
+
+    private static final String TAG_KEY_PREFIX = "tag:posts:";
+    private static final String BACKFILL_MARKER_KEY = "tag:index:backfilled";
+    // 같은 밀리초에 작성된 포스트를 커서로 구분하기 위한 여유분
+    private static final int TIE_SLACK = 16;
+    private static final int BACKFILL_PAGE_SIZE = 500;
+
+    // 점수 내림차순, 동점은 postId 내림차순 (FeedCursor.FEED_ORDER 와 동일)
+    private static final Comparator<ZSetOperations.TypedTuple<String>> INDEX_ORDER =
+            Comparator.comparing((ZSetOperations.TypedTuple<String> tuple) -> tuple.getScore(), Comparator.reverseOrder())
+                    .thenComparing(ZSetOperations.TypedTuple::getValue, Comparator.reverseOrder());
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final PostRepository postRepository;
+    private final DynamoDBMapper dynamoDBMapper;
+
+    // 애플리케이션 시작 시 기존 포스트 백필 실행 여부 (클러스터에서 한 번만 실행)
+    @Value("${app.tag-index.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+
+    /**
+     * 포스트를 태그 인덱스에 추가/갱신 (이전 태그 중 빠진 태그는 제거)
+     */
+    public void index(Post post, Set<String> previousTags) {
+        Set<String> currentTags = Boolean.TRUE.equals(post.getIsActive()) && post.getTags() != null
+                ? post.getTags()
+                : Collections.emptySet();
+        Set<String> removedTags = previousTags != null ? new HashSet<>(previousTags) : new HashSet<>();
+        removedTags.removeAll(currentTags);
+
+        if (currentTags.isEmpty() && removedTags.isEmpty()) {
+            return;
+        }
+
+        double score = post.getCreatedAt().toEpochMilli();
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            for (String tag : currentTags) {
+                redis.zAdd(tagKey(tag), score, post.getPostId());
+            }
+            for (String tag : removedTags) {
+                redis.zRem(tagKey(tag), post.getPostId());
+            }
+            return null;
+        });
+    }
+
+    public void index(Post post) {
+        index(post, null);
+    }
+
+    /**
+     * 여러 태그에서 커서 이후 최신 포스트 ID 조회 (중복 제거, 최신순 limit 개)
+     */
+    public List<String> findLatestPostIds(Collection<String> tags, FeedCursor cursor, int limit) {
+        return findLatestEntries(tags, cursor, limit).stream()
+                .map(ZSetOperations.TypedTuple::getValue)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 태그별 포스트 조회 (커서 이후 최신순 limit 개)
+     * <p>
+     * 다음 커서는 삭제/비활성 포스트를 걸러내기 전의 인덱스 윈도우로 계산한다.
+     */
+    public CursorPage<Post> findLatestPosts(Collection<String> tags, FeedCursor cursor, int limit) {
+        List<ZSetOperations.TypedTuple<String>> window = findLatestEntries(tags, cursor, limit);
+        if (window.isEmpty()) {
+            return CursorPage.empty();
+        }
+
+        List<String> postIds = window.stream()
+                .map(ZSetOperations.TypedTuple::getValue)
+                .collect(Collectors.toList());
+        Map<String, Post> postsById = new HashMap<>();
+        postRepository.findAllById(postIds)
+                .forEach(post -> postsById.put(post.getPostId(), post));
+
+        List<Post> posts = postIds.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .filter(post -> Boolean.TRUE.equals(post.getIsActive()))
+                .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (window.size() >= limit) {
+            ZSetOperations.TypedTuple<String> last = window.get(window.size() - 1);
+            nextCursor = FeedCursor.after(Instant.ofEpochMilli(last.getScore().longValue()), last.getValue()).encode();
+        }
+        return CursorPage.of(posts, nextCursor);
+    }
+
+    private List<ZSetOperations.TypedTuple<String>> findLatestEntries(Collection<String> tags, FeedCursor cursor, int limit) {
+        boolean hasCursor = cursor != null && cursor.getCreatedAt() != null;
+        double maxScore = hasCursor ? cursor.getCreatedAt().toEpochMilli() : Double.POSITIVE_INFINITY;
+
+        TreeSet<ZSetOperations.TypedTuple<String>> merged = new TreeSet<>(INDEX_ORDER);
+        Set<String> seen = new HashSet<>();
+        for (String tag : new HashSet<>(tags)) {
+            Set<ZSetOperations.TypedTuple<String>> tuples = stringRedisTemplate.opsForZSet()
+                    .reverseRangeByScoreWithScores(tagKey(tag), Double.NEGATIVE_INFINITY, maxScore, 0, limit + TIE_SLACK);
+            if (tuples == null) {
+                continue;
+            }
+            for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                // 동일 score 에서 커서 postId 이상은 이미 반환된 항목
+                boolean alreadyReturned = hasCursor
+                        && tuple.getScore() != null && tuple.getScore() == maxScore
+                        && tuple.getValue().compareTo(cursor.getPostId()) >= 0;
+                if (!alreadyReturned && tuple.getScore() != null && seen.add(tuple.getValue())) {
+                    merged.add(tuple);
+                }
+            }
+        }
+
+        return merged.stream()
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 태그가 포함된 포스트 수 (ZCARD)
+     */
+    public long countPosts(String tag) {
+        Long count = stringRedisTemplate.opsForZSet().zCard(tagKey(tag));
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * 애플리케이션 시작 시 백필 (마커가 없을 때 한 인스턴스만 실행)
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!backfillOnStartup) {
+            return;
+        }
+        Boolean acquired = stringRedisTemplate.opsForValue()
+                .setIfAbsent(BACKFILL_MARKER_KEY, "running", Duration.ofHours(1));
+        if (!Boolean.TRUE.equals(acquired)) {
+            log.debug("Tag index backfill already done or running elsewhere");
+            return;
+        }
+
+        try {
+            long indexed = backfill();
+            stringRedisTemplate.opsForValue().set(BACKFILL_MARKER_KEY, Instant.now().toString());
+            log.info("Tag index backfill completed: {} posts indexed", indexed);
+        } catch (Exception e) {
+            // 다음 시작 시 재시도할 수 있도록 마커 삭제
+            stringRedisTemplate.delete(BACKFILL_MARKER_KEY);
+            log.error("Tag index backfill failed", e);
+        }
+    }
+
+    /**
+     * 기존 포스트 전체를 태그 인덱스에 반영 (1회성 페이지 단위 Scan)
+     */
+    public long backfill() {
+        DynamoDBScanExpression scan = new DynamoDBScanExpression()
+                .withProjectionExpression("postId, tags, createdAt, isActive")
+                .withLimit(BACKFILL_PAGE_SIZE);
+
+        long indexed = 0;
+        do {
+            ScanResultPage<Post> page = dynamoDBMapper.scanPage(Post.class, scan);
+            List<Post> posts = new ArrayList<>();
+            for (Post post : page.getResults()) {
+                if (Boolean.TRUE.equals(post.getIsActive()) && post.getTags() != null
+                        && !post.getTags().isEmpty() && post.getCreatedAt() != null) {
+                    posts.add(post);
+                }
+            }
+            posts.forEach(this::index);
+            indexed += posts.size();
+            scan.setExclusiveStartKey(page.getLastEvaluatedKey());
+        } while (scan.getExclusiveStartKey() != null);
+
+        return indexed;
+    }
+
+    private String tagKey(String tag) {
+        return TAG_KEY_PREFIX + tag;
+    }
+}
@@ -0,0 +1,307 @@
+package com.khu.acc.newsfeed.service;
+
+import com.khu.acc.newsfeed.dto.CursorPage;
+import com.khu.acc.newsfeed.dto.FeedCursor;
+import com.khu.acc.newsfeed.model.Post;
+import com.khu.acc.newsfeed.model.User;
+import com.khu.acc.newsfeed.repository.FollowEdgeRepository;
+import com.khu.acc.newsfeed.repository.PostRepository;
+import com.khu.acc.newsfeed.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 팔로잉 피드용 타임라인 저장소 (fan-out-on-write)
+ * <p>
+ * 포스트 작성 시 팔로워별 Redis Sorted Set(score = createdAt)에 포스트 ID를 추가하고,
+ * 피드 조회는 범위 조회 + 포스트 하이드레이션으로 처리한다.
+ * 팔로워가 많은 작성자({@link FanOutPolicy})의 포스트는 fan-out 하지 않고 조회 시점에 병합한다.
+ * pull 작성자 목록은 마지막 pull 포스트 시각을 score 로 두어, 병합 기간이 지난 작성자는 정리하고
+ * 정책이 바뀌어도(임계값 상향, 비활성화) 기간 안의 pull 포스트는 계속 병합한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TimelineService {
+
+    private static final String TIMELINE_KEY_PREFIX = "timeline:";
+    private static final String BUILT_MARKER_SUFFIX = ":built";
+    private static final String PULL_AUTHORS_KEY = "timeline:pull-authors:recent";
+    // 타임라인 재구성과 pull 병합 대상 기간
+    private static final Duration MERGE_WINDOW = Duration.ofDays(7);
+    // 같은 밀리초에 작성된 포스트를 커서로 구분하기 위한 여유분
+    private static final int TIE_SLACK = 16;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final PostRepository postRepository;
+    private final FollowEdgeRepository followEdgeRepository;
+    private final UserRepository userRepository;
+    private final FanOutPolicy fanOutPolicy;
+    private final FeedCandidateEngine feedCandidateEngine;
+    private final MeterRegistry meterRegistry;
+
+    // 사용자별 타임라인 최대 길이
+    @Value("${app.feed.timeline.max-size:800}")
+    private int maxSize;
+
+    // 비활성 사용자의 타임라인은 TTL 로 정리
+    @Value("${app.feed.timeline.ttl:7d}")
+    private Duration ttl;
+
+    /**
+     * 새 포스트를 작성자의 모든 팔로워 타임라인에 추가 (비동기)
+     */
+    @Async
+    public void fanOutPost(Post post) {
+        User author = userRepository.findById(post.getUserId()).orElse(null);
+        if (author != null && fanOutPolicy.isPullAuthor(author)) {
+            // 대형 계정은 fan-out 대신 조회 시점에 pull (병합 기간이 지난 작성자는 함께 정리)
+            long postedAt = post.getCreatedAt().toEpochMilli();
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                redis.zAdd(PULL_AUTHORS_KEY, postedAt, author.getUserId());
+                redis.zRemRangeByScore(PULL_AUTHORS_KEY, Double.NEGATIVE_INFINITY,
+                        Instant.now().minus(MERGE_WINDOW).toEpochMilli() - 1);
+                return null;
+            });
+            meterRegistry.counter("feed.fanout.writes.skipped").increment(author.getFollowersCount());
+            log.debug("Skipped fan-out of post {} for pull author {}", post.getPostId(), author.getUserId());
+            return;
+        }
+
+        List<String> followerIds = followEdgeRepository.findFollowerIds(post.getUserId());
+
+        if (followerIds.isEmpty()) {
+            return;
+        }
+
+        double score = post.getCreatedAt().toEpochMilli();
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            for (String followerId : followerIds) {
+                String key = timelineKey(followerId);
+                redis.zAdd(key, score, post.getPostId());
+                redis.zRemRange(key, 0, -(maxSize + 1));
+                redis.expire(key, ttl.getSeconds());
+            }
+            return null;
+        });
+
+        meterRegistry.counter("feed.fanout.writes").increment(followerIds.size());
+        log.debug("Fanned out post {} to {} timelines", post.getPostId(), followerIds.size());
+    }
+
+    /**
+     * 타임라인에서 포스트 제거 (포스트 삭제 시)
+     */
+    @Async
+    public void removePost(Post post) {
+        List<String> followerIds = followEdgeRepository.findFollowerIds(post.getUserId());
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            for (String followerId : followerIds) {
+                redis.zRem(timelineKey(followerId), post.getPostId());
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 타임라인 포스트 조회 (최신순, 커서 이후 limit 개)
+     * <p>
+     * 타임라인이 없거나 만료된 경우 원본 테이블에서 재구성한 뒤 조회하고,
+     * 팔로잉 중인 pull 대상 작성자의 커서 이후 포스트를 병합한다.
+     * 다음 커서는 삭제/비활성 포스트를 걸러내기 전의 후보 윈도우로 계산하므로,
+     * 걸러진 포스트 때문에 페이지가 덜 차더라도 피드가 끝나지 않는다.
+     */
+    public CursorPage<Post> getTimelinePosts(String userId, List<String> followingIds, FeedCursor cursor, int limit) {
+        if (!isWarm(userId)) {
+            rebuildTimeline(userId);
+        }
+
+        // 타임라인 항목은 위치(createdAt, postId)만 가진 후보로 두고 윈도우가 정해진 뒤 원본 조회
+        Map<String, Post> candidates = new HashMap<>();
+        readTimelineEntries(userId, cursor, limit).forEach(tuple -> candidates.put(tuple.getValue(),
+                Post.builder()
+                        .postId(tuple.getValue())
+                        .createdAt(Instant.ofEpochMilli(tuple.getScore().longValue()))
+                        .build()));
+        Set<String> timelineIds = new HashSet<>(candidates.keySet());
+
+        // 임계값과 무관하게 병합 (비활성화 전에 fan-out 되지 않은 포스트가 사라지지 않도록)
+        Instant since = Instant.now().minus(MERGE_WINDOW);
+        List<String> pullAuthorIds = findPullAuthors(followingIds, since);
+        if (!pullAuthorIds.isEmpty()) {
+            mergeTimer().record(() -> {
+                feedCandidateEngine.fetchLatest(pullAuthorIds, since, cursor, limit)
+                        .forEach(post -> {
+                            candidates.put(post.getPostId(), post);
+                            timelineIds.remove(post.getPostId());
+                        });
+                meterRegistry.summary("feed.hybrid.pull.authors").record(pullAuthorIds.size());
+            });
+        }
+
+        List<Post> window = candidates.values().stream()
+                .sorted(FeedCursor.FEED_ORDER)
+                .limit(limit)
+                .collect(Collectors.toList());
+        String nextCursor = FeedCursor.nextOf(window, limit);
+
+        Map<String, Post> hydrated = hydratePosts(window.stream()
+                .map(Post::getPostId)
+                .filter(timelineIds::contains)
+                .collect(Collectors.toList()));
+        List<Post> posts = window.stream()
+                .map(post -> timelineIds.contains(post.getPostId()) ? hydrated.get(post.getPostId()) : post)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return CursorPage.of(posts, nextCursor);
+    }
+
+    /**
+     * 커서 이후의 타임라인 항목 조회 (score 범위 조회, 동일 score 는 postId 로 구분)
+     */
+    private List<ZSetOperations.TypedTuple<String>> readTimelineEntries(String userId, FeedCursor cursor, int limit) {
+        boolean hasCursor = cursor != null && cursor.getCreatedAt() != null;
+        double maxScore = hasCursor ? cursor.getCreatedAt().toEpochMilli() : Double.POSITIVE_INFINITY;
+
+        Set<ZSetOperations.TypedTuple<String>> tuples = stringRedisTemplate.opsForZSet()
+                .reverseRangeByScoreWithScores(timelineKey(userId),
+                        Double.NEGATIVE_INFINITY, maxScore, 0, limit + TIE_SLACK);
+        if (tuples == null || tuples.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<ZSetOperations.TypedTuple<String>> entries = new ArrayList<>(limit);
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            if (entries.size() >= limit) {
+                break;
+            }
+            // 동일 score 는 member 내림차순이므로 커서 postId 이상은 이미 반환된 항목
+            boolean alreadyReturned = hasCursor
+                    && tuple.getScore() != null && tuple.getScore() == maxScore
+                    && tuple.getValue().compareTo(cursor.getPostId()) >= 0;
+            if (!alreadyReturned && tuple.getScore() != null) {
+                entries.add(tuple);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * 팔로잉 중인 사용자 중 since 이후 pull 포스트를 쓴 작성자 조회 (ZMSCORE 1회)
+     */
+    private List<String> findPullAuthors(List<String> followingIds, Instant since) {
+        if (followingIds == null || followingIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Double> lastPulledAt = stringRedisTemplate.opsForZSet()
+                .score(PULL_AUTHORS_KEY, followingIds.toArray());
+        if (lastPulledAt == null) {
+            return Collections.emptyList();
+        }
+
+        // 아직 정리되지 않은 기간 밖 작성자는 제외
+        long sinceMillis = since.toEpochMilli();
+        List<String> pullAuthorIds = new ArrayList<>();
+        for (int i = 0; i < followingIds.size(); i++) {
+            Double score = lastPulledAt.get(i);
+            if (score != null && score >= sinceMillis) {
+                pullAuthorIds.add(followingIds.get(i));
+            }
+        }
+        return pullAuthorIds;
+    }
+
+    private Timer mergeTimer() {
+        return Timer.builder("feed.hybrid.merge")
+                .description("Read-side merge cost of pulled high-follower posts")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 원본 테이블(FollowEdges, Posts)에서 타임라인 재구성
+     */
+    public void rebuildTimeline(String userId) {
+        List<String> followingIds = followEdgeRepository.findFollowingIds(userId);
+
+        Instant since = Instant.now().minus(MERGE_WINDOW);
+        Map<String, Double> entries = new HashMap<>();
+        feedCandidateEngine.fetchLatest(followingIds, since, maxSize)
+                .forEach(post -> entries.put(post.getPostId(), (double) post.getCreatedAt().toEpochMilli()));
+
+        String key = timelineKey(userId);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            redis.del(key);
+            entries.forEach((postId, score) -> redis.zAdd(key, score, postId));
+            redis.zRemRange(key, 0, -(maxSize + 1));
+            redis.expire(key, ttl.getSeconds());
+            redis.setEx(key + BUILT_MARKER_SUFFIX, ttl.getSeconds(), Instant.now().toString());
+            return null;
+        });
+
+        log.info("Rebuilt timeline for user {} with {} posts from {} authors",
+                userId, Math.min(entries.size(), maxSize), followingIds.size());
+    }
+
+    /**
+     * 타임라인 무효화 (팔로우 관계 변경 시 다음 조회에서 재구성)
+     */
+    public void invalidateTimeline(String userId) {
+        stringRedisTemplate.delete(List.of(timelineKey(userId), timelineKey(userId) + BUILT_MARKER_SUFFIX));
+    }
+
+    /**
+     * 재구성된 타임라인이 존재하는지 확인
+     */
+    public boolean isWarm(String userId) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(timelineKey(userId) + BUILT_MARKER_SUFFIX));
+    }
+
+    /**
+     * 포스트 ID 목록을 원본 조회 (삭제/비활성 포스트 제외)
+     */
+    private Map<String, Post> hydratePosts(List<String> postIds) {
+        if (postIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, Post> postsById = new HashMap<>();
+        postRepository.findAllById(new LinkedHashSet<>(postIds)).forEach(post -> {
+            if (Boolean.TRUE.equals(post.getIsActive())) {
+                postsById.put(post.getPostId(), post);
+            }
+        });
+        return postsById;
+    }
+
+    private String timelineKey(String userId) {
+        return TIMELINE_KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,186 @@
+package com.khu.acc.newsfeed.service;
+
+import com.khu.acc.newsfeed.dto.CursorPage;
+import com.khu.acc.newsfeed.dto.FeedCursor;
+import com.khu.acc.newsfeed.event.PostEngagementEvent;
+import com.khu.acc.newsfeed.model.Post;
+import com.khu.acc.newsfeed.repository.PostRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 슬라이딩 윈도우 트렌딩 엔진
+ * <p>
+ * 좋아요/댓글 이벤트를 5분 단위 버킷(Redis Sorted Set)에 누적하고,
+ * 주기적으로 최근 24시간 버킷을 지수 감쇠 가중치로 합산(ZUNIONSTORE)해 상위 N개 리더보드를 갱신한다.
+ * 트렌딩 조회는 리더보드 범위 조회 + 포스트 하이드레이션만 수행한다.
+ * 취소 이벤트(좋아요 취소, 댓글 삭제)는 원래 참여 시각의 버킷에서 빼서 더했던 만큼(같은 감쇠 가중치)만 상쇄하고,
+ * 원래 버킷이 이미 윈도우를 벗어났으면 버린다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendingService {
+
+    private static final String BUCKET_KEY_PREFIX = "trending:bucket:";
+    private static final String LEADERBOARD_KEY = "trending:leaderboard";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final PostRepository postRepository;
+    private final MeterRegistry meterRegistry;
+
+    // 버킷 크기
+    @Value("${app.trending.bucket-size:5m}")
+    private Duration bucketSize;
+
+    // 집계 윈도우
+    @Value("${app.trending.window:24h}")
+    private Duration window;
+
+    // 점수 반감기 (오래된 버킷일수록 가중치 감소)
+    @Value("${app.trending.half-life:6h}")
+    private Duration halfLife;
+
+    // 리더보드 크기
+    @Value("${app.trending.top-n:500}")
+    private int topN;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private volatile Instant lastRefreshedAt = Instant.EPOCH;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("trending.leaderboard.staleness", this,
+                        service -> Duration.between(service.lastRefreshedAt, Instant.now()).toMillis() / 1000.0)
+                .description("Seconds since the trending leaderboard was last rebuilt")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 참여 이벤트를 발생 버킷에 반영 (비동기, 취소 이벤트는 원래 참여 시각의 버킷)
+     */
+    @Async
+    @EventListener
+    public void onEngagement(PostEngagementEvent event) {
+        Instant engagedAt = event.getEngagedAt() != null ? event.getEngagedAt() : event.getOccurredAt();
+        long bucket = bucketOf(engagedAt);
+        long age = bucketOf(Instant.now()) - bucket;
+        if (age >= bucketCount()) {
+            // 원래 참여가 이미 윈도우 밖이라 점수에 남아 있지 않음
+            meterRegistry.counter("trending.events.expired", "type", event.getType().name()).increment();
+            return;
+        }
+        String key = BUCKET_KEY_PREFIX + bucket;
+
+        stringRedisTemplate.opsForZSet().incrementScore(key, event.getPostId(), event.getType().getWeight());
+        // 윈도우를 벗어난 버킷은 만료로 정리 (지난 버킷은 남은 기간만큼)
+        stringRedisTemplate.expire(key, window.plus(bucketSize).minus(bucketSize.multipliedBy(Math.max(0, age))));
+
+        meterRegistry.counter("trending.events", "type", event.getType().name()).increment();
+    }
+
+    /**
+     * 최근 윈도우 버킷을 감쇠 가중치로 합산해 리더보드 재구성
+     */
+    @Scheduled(fixedDelayString = "${app.trending.refresh-interval-ms:15000}")
+    public void refreshLeaderboard() {
+        leaderboardRefreshTimer().record(() -> {
+            long currentBucket = bucketOf(Instant.now());
+            int bucketCount = bucketCount();
+            double bucketsPerHalfLife = (double) halfLife.toMillis() / bucketSize.toMillis();
+
+            List<String> keys = new ArrayList<>(bucketCount);
+            double[] weights = new double[bucketCount];
+            for (int age = 0; age < bucketCount; age++) {
+                keys.add(BUCKET_KEY_PREFIX + (currentBucket - age));
+                weights[age] = Math.pow(0.5, age / bucketsPerHalfLife);
+            }
+
+            // 인스턴스별 임시 키에 계산 후 교체 (조회 중인 리더보드는 항상 완전한 상태)
+            String tempKey = LEADERBOARD_KEY + ":tmp:" + instanceId;
+            Long size = stringRedisTemplate.opsForZSet().unionAndStore(
+                    keys.get(0), keys.subList(1, keys.size()), tempKey, Aggregate.SUM, Weights.of(weights));
+
+            if (size == null || size == 0) {
+                stringRedisTemplate.delete(LEADERBOARD_KEY);
+            } else {
+                // 취소가 더 많아 점수가 0 이하인 포스트 제외 후 상위 N개만 유지
+                stringRedisTemplate.opsForZSet().removeRangeByScore(tempKey, Double.NEGATIVE_INFINITY, 0);
+                stringRedisTemplate.opsForZSet().removeRange(tempKey, 0, -(topN + 1));
+                // 모두 제외되면 임시 키가 사라지므로 RENAME 대신 리더보드를 비움
+                Long remaining = stringRedisTemplate.opsForZSet().zCard(tempKey);
+                if (remaining == null || remaining == 0) {
+                    stringRedisTemplate.delete(LEADERBOARD_KEY);
+                } else {
+                    stringRedisTemplate.rename(tempKey, LEADERBOARD_KEY);
+                }
+            }
+
+            lastRefreshedAt = Instant.now();
+            log.debug("Refreshed trending leaderboard with {} posts", size);
+        });
+    }
+
+    /**
+     * 트렌딩 포스트 조회 (리더보드 순위 offset 부터 limit 개)
+     * <p>
+     * 다음 커서는 삭제/비활성 포스트를 걸러내기 전의 순위 윈도우로 계산한다.
+     */
+    public CursorPage<Post> getTrendingPosts(int offset, int limit) {
+        Set<String> postIds = stringRedisTemplate.opsForZSet()
+                .reverseRange(LEADERBOARD_KEY, offset, offset + limit - 1L);
+        if (postIds == null || postIds.isEmpty()) {
+            return CursorPage.empty();
+        }
+
+        Map<String, Post> postsById = new HashMap<>();
+        postRepository.findAllById(postIds)
+                .forEach(post -> postsById.put(post.getPostId(), post));
+
+        List<Post> posts = postIds.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .filter(post -> Boolean.TRUE.equals(post.getIsActive()))
+                .collect(Collectors.toList());
+        String nextCursor = postIds.size() < limit ? null : FeedCursor.atOffset(offset + limit).encode();
+        return CursorPage.of(posts, nextCursor);
+    }
+
+    private int bucketCount() {
+        return (int) (window.toMillis() / bucketSize.toMillis());
+    }
+
+    private long bucketOf(Instant instant) {
+        return instant.toEpochMilli() / bucketSize.toMillis();
+    }
+
+    private Timer leaderboardRefreshTimer() {
+        return Timer.builder("trending.leaderboard.refresh")
+                .description("Trending leaderboard rebuild latency")
+                .register(meterRegistry);
+    }
+}
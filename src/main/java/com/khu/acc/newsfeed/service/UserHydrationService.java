@@ -0,0 +1,82 @@
+package com.khu.acc.newsfeed.service;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.khu.acc.newsfeed.dto.UserResponse;
+import com.khu.acc.newsfeed.model.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 응답용 사용자 정보 일괄 하이드레이션
+ * <p>
+ * 한 응답에 필요한 사용자 ID 를 모아 한 번에 조회한다.
+ * "users" 캐시를 일괄 조회(MGET)로 먼저 읽고, 미스는 DynamoDB BatchGetItem(100개 단위)으로 읽은 뒤 파이프라인으로 캐시에 채워 넣는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserHydrationService {
+
+    private static final String USERS_CACHE = "users";
+    private static final int BATCH_GET_MAX_KEYS = 100;
+
+    private final BatchCacheService batchCacheService;
+    private final DynamoDBMapper dynamoDBMapper;
+
+    /**
+     * 사용자 ID 목록을 UserResponse 로 일괄 변환 (존재하지 않는 사용자는 결과에서 제외)
+     */
+    public Map<String, UserResponse> resolve(Collection<String> userIds) {
+        List<String> distinctIds = userIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+        if (distinctIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        // 1. 캐시 일괄 조회 (Redis 왕복 1회)
+        Map<String, User> users = new HashMap<>(batchCacheService.getAll(USERS_CACHE, distinctIds, User.class));
+        List<String> misses = distinctIds.stream()
+                .filter(userId -> !users.containsKey(userId))
+                .collect(Collectors.toList());
+
+        // 2. 미스는 BatchGetItem 으로 조회 후 캐시에 저장 (Redis 왕복 1회)
+        if (!misses.isEmpty()) {
+            Map<String, User> loaded = batchLoad(misses);
+            users.putAll(loaded);
+            batchCacheService.putAll(USERS_CACHE, loaded);
+        }
+
+        log.debug("Hydrated {} users ({} cache misses)", users.size(), misses.size());
+
+        Map<String, UserResponse> responses = new HashMap<>();
+        users.forEach((userId, user) -> responses.put(userId, UserResponse.from(user)));
+        return responses;
+    }
+
+    private Map<String, User> batchLoad(List<String> userIds) {
+        Map<String, User> loaded = new HashMap<>();
+        for (int from = 0; from < userIds.size(); from += BATCH_GET_MAX_KEYS) {
+            List<User> keys = userIds.subList(from, Math.min(userIds.size(), from + BATCH_GET_MAX_KEYS))
+                    .stream()
+                    .map(userId -> User.builder().userId(userId).build())
+                    .collect(Collectors.toList());
+
+            dynamoDBMapper.batchLoad(keys).values().stream()
+                    .flatMap(List::stream)
+                    .map(User.class::cast)
+                    .forEach(user -> loaded.put(user.getUserId(), user));
+        }
+        return loaded;
+    }
+}
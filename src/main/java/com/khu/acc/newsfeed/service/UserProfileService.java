@@ -0,0 +1,166 @@
+package com.khu.acc.newsfeed.service;
+
+import com.khu.acc.newsfeed.event.FollowEvent;
+import com.khu.acc.newsfeed.event.PostEngagementEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 사용자 개인화 프로필 (이벤트 기반 증분 유지)
+ * <p>
+ * 사용자별 작성자 친밀도와 태그 선호도를 Redis Sorted Set 두 개에 감쇠 점수로 유지한다.
+ * 좋아요/댓글/팔로우 이벤트마다 ZINCRBY 로 갱신하므로 피드 요청은 최근 활동 전체를 다시 읽지 않고 상위 항목만 조회한다.
+ * <p>
+ * 감쇠는 forward decay 방식이다. 고정 기준 시각(LANDMARK)부터 지난 반감기 수만큼 가중치를 키워서 더하므로
+ * 기존 점수를 다시 쓰지 않아도 최근 이벤트가 더 큰 비중을 갖는다. 조회 시에는 현재 시각 가중치로 나눈 값을 기준으로 최소 점수를 거른다.
+ * (반감기 7일 기준 약 19년까지 double 범위 안에서 동작)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserProfileService {
+
+    private static final String AUTHOR_KEY_PREFIX = "profile:authors:";
+    private static final String TAG_KEY_PREFIX = "profile:tags:";
+    private static final long LANDMARK_MILLIS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    // 이벤트별 친밀도 가중치
+    private static final double FOLLOW_WEIGHT = 3.0;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // 친밀도 반감기
+    @Value("${app.personalization.profile.half-life:7d}")
+    private Duration halfLife;
+
+    // 사용자별로 유지하는 최대 작성자/태그 수 (초과분은 점수 낮은 순으로 제거)
+    @Value("${app.personalization.profile.max-authors:200}")
+    private int maxAuthors;
+
+    @Value("${app.personalization.profile.max-tags:100}")
+    private int maxTags;
+
+    // 피드 점수 계산에 사용하는 상위 작성자/태그 수
+    @Value("${app.personalization.profile.top-authors:50}")
+    private int topAuthors;
+
+    @Value("${app.personalization.profile.top-tags:30}")
+    private int topTags;
+
+    // 현재 시각 기준 감쇠 점수가 이 값 미만인 항목은 조회에서 제외
+    @Value("${app.personalization.profile.min-affinity:0.5}")
+    private double minAffinity;
+
+    // 활동이 없는 사용자 프로필 만료 시간
+    @Value("${app.personalization.profile.ttl:90d}")
+    private Duration ttl;
+
+    /**
+     * 사용자 프로필 조회 결과
+     */
+    public record Profile(Set<String> frequentAuthors, Set<String> preferredTags) {
+    }
+
+    /**
+     * 좋아요/댓글 이벤트 반영 (작성자 친밀도, 포스트 태그 선호도)
+     */
+    @Async
+    @EventListener
+    public void onEngagement(PostEngagementEvent event) {
+        // 취소는 원래 참여 시각의 가중치로 빼야 더했던 만큼만 상쇄됨 (모르면 현재 시각 기준, 0 이하가 된 항목은 제거)
+        Instant weightedAt = event.getEngagedAt() != null ? event.getEngagedAt() : event.getOccurredAt();
+        double delta = event.getType().getWeight() * decayFactor(weightedAt.toEpochMilli());
+        boolean hasAuthor = event.getAuthorId() != null && !event.getAuthorId().equals(event.getUserId());
+        Set<String> tags = event.getTags() != null ? event.getTags() : Collections.emptySet();
+        if (!hasAuthor && tags.isEmpty()) {
+            return;
+        }
+
+        String authorKey = AUTHOR_KEY_PREFIX + event.getUserId();
+        String tagKey = TAG_KEY_PREFIX + event.getUserId();
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            if (hasAuthor) {
+                redis.zIncrBy(authorKey, delta, event.getAuthorId());
+                if (delta < 0) {
+                    redis.zRemRangeByScore(authorKey, Double.NEGATIVE_INFINITY, 0);
+                }
+                redis.zRemRangeByRank(authorKey, 0, -(maxAuthors + 1));
+                redis.expire(authorKey, ttl.getSeconds());
+            }
+            if (!tags.isEmpty()) {
+                for (String tag : tags) {
+                    redis.zIncrBy(tagKey, delta, tag);
+                }
+                if (delta < 0) {
+                    redis.zRemRangeByScore(tagKey, Double.NEGATIVE_INFINITY, 0);
+                }
+                redis.zRemRangeByRank(tagKey, 0, -(maxTags + 1));
+                redis.expire(tagKey, ttl.getSeconds());
+            }
+            return null;
+        });
+
+        meterRegistry.counter("personalization.profile.updates", "type", event.getType().name()).increment();
+    }
+
+    /**
+     * 팔로우 이벤트 반영 (팔로우 시 친밀도 가산, 언팔로우 시 제거)
+     */
+    @Async
+    @EventListener
+    public void onFollow(FollowEvent event) {
+        String authorKey = AUTHOR_KEY_PREFIX + event.getFollowerId();
+        if (event.isFollowed()) {
+            double delta = FOLLOW_WEIGHT * decayFactor(event.getOccurredAt().toEpochMilli());
+            stringRedisTemplate.opsForZSet().incrementScore(authorKey, event.getFolloweeId(), delta);
+            stringRedisTemplate.expire(authorKey, ttl);
+        } else {
+            stringRedisTemplate.opsForZSet().remove(authorKey, event.getFolloweeId());
+        }
+
+        meterRegistry.counter("personalization.profile.updates", "type", event.isFollowed() ? "FOLLOW" : "UNFOLLOW")
+                .increment();
+    }
+
+    /**
+     * 현재 시각 기준 상위 작성자/태그 조회 (Redis 왕복 1회)
+     */
+    public Profile getProfile(String userId) {
+        // 저장 점수 = 감쇠 점수 * decayFactor(now) 이므로 최소 점수도 같은 배율로 환산
+        double minScore = minAffinity * decayFactor(System.currentTimeMillis());
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            redis.zRevRangeByScore(AUTHOR_KEY_PREFIX + userId, minScore, Double.POSITIVE_INFINITY, 0, topAuthors);
+            redis.zRevRangeByScore(TAG_KEY_PREFIX + userId, minScore, Double.POSITIVE_INFINITY, 0, topTags);
+            return null;
+        });
+
+        return new Profile(toSet(results.get(0)), toSet(results.get(1)));
+    }
+
+    private double decayFactor(long epochMillis) {
+        return Math.pow(2.0, (double) (epochMillis - LANDMARK_MILLIS) / halfLife.toMillis());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<String> toSet(Object result) {
+        return result instanceof Set ? new LinkedHashSet<>((Set<String>) result) : Collections.emptySet();
+    }
+}
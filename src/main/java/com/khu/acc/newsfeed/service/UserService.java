@@ -1,5 +1,7 @@
 package com.khu.acc.newsfeed.service;
 
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
 import com.khu.acc.newsfeed.model.User;
 import com.khu.acc.newsfeed.repository.UserRepository;
 import jakarta.validation.constraints.Size;
@@ -13,10 +15,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -24,7 +31,17 @@ import java.util.UUID;
 @Transactional
 public class UserService {
 
+    // 사용자 검색 결과 최대 개수
+    private static final int USER_SEARCH_LIMIT = 20;
+
+    // null 인 속성은 쓰지 않는 UpdateItem (카운터를 비워 두고 저장)
+    private static final DynamoDBMapperConfig SKIP_NULL_ATTRIBUTES = DynamoDBMapperConfig.builder()
+            .withSaveBehavior(DynamoDBMapperConfig.SaveBehavior.UPDATE_SKIP_NULL_ATTRIBUTES)
+            .build();
+
     private final UserRepository userRepository;
+    private final DynamoDBMapper dynamoDBMapper;
+    private final SearchIndexService searchIndexService;
 
     /**
      * 새로운 사용자 생성
@@ -50,6 +67,7 @@ public class UserService {
                 .build();
 
         User savedUser = userRepository.save(newUser);
+        searchIndexService.indexUser(savedUser);
         log.info("Successfully created user with ID: {}", savedUser.getUserId());
 
         return savedUser;
@@ -58,7 +76,7 @@ public class UserService {
     /**
      * 사용자 ID로 조회 (캐시 적용)
      */
-    @Cacheable(value = "users", key = "#userId")
+    @Cacheable(value = "users", key = "#userId", sync = true)
     public Optional<User> findById(String userId) {
         return userRepository.findById(userId);
     }
@@ -110,18 +128,31 @@ public class UserService {
 
         user.setUpdatedAt(Instant.now());
 
-        User updatedUser = userRepository.save(user);
+        User updatedUser = saveWithoutCounters(user);
+        searchIndexService.indexUser(updatedUser);
         log.info("Successfully updated profile for user: {}", user.getUserId());
 
         return updatedUser;
     }
 
     /**
-     * 사용자명으로 검색
+     * 사용자명으로 검색 (검색 인덱스 기반, 관련도 + 최신성 순)
      */
     public List<User> searchUsersByUsername(String username) {
         log.debug("Searching users by username: {}", username);
-        return userRepository.findAllByUsername(username);
+        List<String> userIds = searchIndexService.searchUsers(username, USER_SEARCH_LIMIT);
+        if (userIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<String, User> usersById = new HashMap<>();
+        userRepository.findAllById(userIds)
+                .forEach(user -> usersById.put(user.getUserId(), user));
+
+        return userIds.stream()
+                .map(usersById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -143,7 +174,8 @@ public class UserService {
             User user = userOpt.get();
             user.setIsActive("false");
             user.setUpdatedAt(Instant.now());
-            userRepository.save(user);
+            saveWithoutCounters(user);
+            searchIndexService.indexUser(user);
 
             log.info("Successfully deactivated user: {}", userId);
         } else {
@@ -164,7 +196,8 @@ public class UserService {
             User user = userOpt.get();
             user.setIsActive("true");
             user.setUpdatedAt(Instant.now());
-            userRepository.save(user);
+            saveWithoutCounters(user);
+            searchIndexService.indexUser(user);
 
             log.info("Successfully activated user: {}", userId);
         } else {
@@ -242,4 +275,27 @@ public class UserService {
             Long followingCount,
             Long postsCount
     ) {}
-}
\ No newline at end of file
+
+    /**
+     * 팔로워/팔로잉/포스트 수를 제외한 속성만 저장
+     * <p>
+     * 읽어 둔 카운터 값으로 덮어쓰면 그 사이 UpdateItem ADD(CounterService)로 더해진 값이 사라지므로
+     * 카운터 필드를 비운 채 UPDATE_SKIP_NULL_ATTRIBUTES 로 저장하고, 반환 전에 읽어 둔 값으로 되돌린다.
+     */
+    private User saveWithoutCounters(User user) {
+        Long followersCount = user.getFollowersCount();
+        Long followingCount = user.getFollowingCount();
+        Long postsCount = user.getPostsCount();
+        user.setFollowersCount(null);
+        user.setFollowingCount(null);
+        user.setPostsCount(null);
+        try {
+            dynamoDBMapper.save(user, SKIP_NULL_ATTRIBUTES);
+        } finally {
+            user.setFollowersCount(followersCount);
+            user.setFollowingCount(followingCount);
+            user.setPostsCount(postsCount);
+        }
+        return user;
+    }
+}
@@ -0,0 +1,109 @@
+package com.khu.acc.newsfeed.benchmark;
+
+import com.khu.acc.newsfeed.config.CompactRedisSerializer;
+import com.khu.acc.newsfeed.dto.CursorPage;
+import com.khu.acc.newsfeed.dto.PostResponse;
+import com.khu.acc.newsfeed.dto.UserResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 피드 페이지 캐시 값 직렬화 벤치마크 (기존 GenericJackson2Json vs Smile vs Smile + LZ4)
+ * <p>
+ * 실행: ./gradlew jmh -PjmhArgs="CacheCodecBenchmark"
+ * 항목당 바이트 수는 setup 단계에서 형식별로 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheCodecBenchmark {
+
+    private static final String[] TAGS = {"travel", "food", "music", "sports", "tech", "art", "movie", "book"};
+
+    @Param({"json", "smile", "smile-lz4"})
+    private String codec;
+
+    @Param({"20"})
+    private int pageSize;
+
+    private RedisSerializer<Object> serializer;
+    private CursorPage<PostResponse> page;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        serializer = switch (codec) {
+            case "json" -> new GenericJackson2JsonRedisSerializer();
+            case "smile" -> CompactRedisSerializer.of(CursorPage.class, PostResponse.class, 0);
+            case "smile-lz4" -> CompactRedisSerializer.of(CursorPage.class, PostResponse.class, 512);
+            default -> throw new IllegalArgumentException("Unknown codec: " + codec);
+        };
+
+        Random random = new Random(42);
+        Instant now = Instant.now();
+        List<PostResponse> items = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            String authorId = "user_" + random.nextInt(50);
+            items.add(PostResponse.builder()
+                    .postId("post_" + Long.toHexString(random.nextLong()))
+                    .userId(authorId)
+                    .content("오늘의 피드 포스트 내용 " + i + " - 짧은 본문과 해시태그가 함께 들어간 일반적인 길이의 글입니다.")
+                    .imageUrls(List.of("https://cdn.example.com/images/" + i + ".jpg"))
+                    .likesCount((long) random.nextInt(5000))
+                    .commentsCount((long) random.nextInt(300))
+                    .tags(Set.of(TAGS[random.nextInt(TAGS.length)]))
+                    .isActive(true)
+                    .createdAt(now.minus(random.nextInt(72), ChronoUnit.HOURS))
+                    .updatedAt(now)
+                    .author(UserResponse.builder()
+                            .userId(authorId)
+                            .username("username_" + authorId)
+                            .displayName("Display " + authorId)
+                            .profileImageUrl("https://cdn.example.com/profiles/" + authorId + ".jpg")
+                            .followersCount((long) random.nextInt(10000))
+                            .followingCount((long) random.nextInt(500))
+                            .postsCount((long) random.nextInt(1000))
+                            .isActive("true")
+                            .createdAt(now.minus(365, ChronoUnit.DAYS))
+                            .build())
+                    .isLikedByCurrentUser(random.nextBoolean())
+                    .build());
+        }
+        page = CursorPage.of(items, "eyJjcmVhdGVkQXQiOjE3MDAwMDAwMDAwMDAsInBvc3RJZCI6InBvc3RfMSJ9");
+        encoded = serializer.serialize(page);
+
+        System.out.printf("%n[%s] bytes per entry: %d%n", codec, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return serializer.serialize(page);
+    }
+
+    @Benchmark
+    public Object decode() {
+        return serializer.deserialize(encoded);
+    }
+}
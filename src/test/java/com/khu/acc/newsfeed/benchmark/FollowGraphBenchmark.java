@@ -0,0 +1,117 @@
+package com.khu.acc.newsfeed.benchmark;
+
+import com.khu.acc.newsfeed.graph.FollowGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 친구의 친구 추천 벤치마크 (기존 List 기반 방식 vs CSR 그래프 순차/병렬 집계)
+ * <p>
+ * 실행: ./gradlew jmh -PjmhArgs="FollowGraphBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class FollowGraphBenchmark {
+
+    private static final int USERS = 50_000;
+    private static final int FOLLOWING_PER_USER = 150;
+    private static final String REQUESTER = "user_0";
+
+    @Param({"100", "1000"})
+    private int requesterFollowing;
+
+    @Param({"20"})
+    private int limit;
+
+    private FollowGraph graph;
+    private Map<String, List<String>> followingLists;
+    private ForkJoinPool sequentialPool;
+    private ForkJoinPool parallelPool;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        FollowGraph.Builder builder = FollowGraph.builder();
+        followingLists = new HashMap<>();
+
+        for (int user = 0; user < USERS; user++) {
+            String userId = "user_" + user;
+            int following = user == 0 ? requesterFollowing : FOLLOWING_PER_USER;
+            List<String> followeeIds = new ArrayList<>(following);
+            for (int i = 0; i < following; i++) {
+                // 인기 사용자에 팔로우가 몰리도록 앞쪽 ID 에 가중치
+                int followee = (int) (USERS * Math.pow(random.nextDouble(), 2));
+                if (followee != user) {
+                    String followeeId = "user_" + followee;
+                    followeeIds.add(followeeId);
+                    builder.addEdge(userId, followeeId);
+                }
+            }
+            followingLists.put(userId, followeeIds);
+        }
+
+        graph = builder.build();
+        sequentialPool = new ForkJoinPool(1);
+        parallelPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown
+    public void tearDown() {
+        sequentialPool.shutdownNow();
+        parallelPool.shutdownNow();
+    }
+
+    /**
+     * 기존 방식: 팔로잉마다 목록 조회 후 List.contains 로 제외 (조회 비용 제외, 등장 순서대로 추천)
+     */
+    @Benchmark
+    public List<String> listBased() {
+        List<String> followingIds = followingLists.get(REQUESTER);
+        return followingIds.stream()
+                .flatMap(followingId -> followingLists.getOrDefault(followingId, List.of()).stream())
+                .filter(recommendedId -> !recommendedId.equals(REQUESTER))
+                .filter(recommendedId -> !followingIds.contains(recommendedId))
+                .distinct()
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * CSR 그래프 + 공통 이웃 수 순위 (단일 스레드)
+     */
+    @Benchmark
+    public List<String> graphSequential() {
+        return graph.recommend(REQUESTER, limit, sequentialPool);
+    }
+
+    /**
+     * CSR 그래프 + 공통 이웃 수 순위 (fork/join)
+     */
+    @Benchmark
+    public List<String> graphParallel() {
+        return graph.recommend(REQUESTER, limit, parallelPool);
+    }
+}
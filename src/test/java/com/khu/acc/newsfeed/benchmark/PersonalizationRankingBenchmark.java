@@ -0,0 +1,113 @@
+package com.khu.acc.newsfeed.benchmark;
+
+import com.khu.acc.newsfeed.dto.UserPersonalizationData;
+import com.khu.acc.newsfeed.model.Post;
+import com.khu.acc.newsfeed.ranking.TagDictionary;
+import com.khu.acc.newsfeed.ranking.TopKSelector;
+import com.khu.acc.newsfeed.service.PersonalizationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 개인화 랭킹 단계 벤치마크 (전체 정렬 vs 상위 K 선택)
+ * <p>
+ * 실행: ./gradlew jmh -PjmhArgs="PersonalizationRankingBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersonalizationRankingBenchmark {
+
+    private static final String[] TAGS = {"travel", "food", "music", "sports", "tech", "art", "movie", "book"};
+
+    @Param({"100", "1000", "10000"})
+    private int candidates;
+
+    @Param({"20"})
+    private int k;
+
+    private List<Post> posts;
+    private double[] scores;
+    private UserPersonalizationData userData;
+    private PersonalizationService personalizationService;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        Instant now = Instant.now();
+
+        posts = new ArrayList<>(candidates);
+        scores = new double[candidates];
+        for (int i = 0; i < candidates; i++) {
+            posts.add(Post.builder()
+                    .postId("post_" + i)
+                    .userId("user_" + random.nextInt(200))
+                    .tags(Set.of(TAGS[random.nextInt(TAGS.length)], TAGS[random.nextInt(TAGS.length)] + "_x"))
+                    .likesCount((long) random.nextInt(1000))
+                    .commentsCount((long) random.nextInt(200))
+                    .isActive(true)
+                    .createdAt(now.minus(random.nextInt(24 * 7), ChronoUnit.HOURS))
+                    .build());
+            scores[i] = random.nextDouble();
+        }
+
+        userData = new UserPersonalizationData(Set.of("travel", "tech", "music"), Set.of("user_1", "user_2"), Set.of());
+        personalizationService = new PersonalizationService(null, null, new TagDictionary(), null, null);
+    }
+
+    /**
+     * 기존 방식: HashMap<String, Double> 에 점수 저장 후 비교마다 boxed 조회하며 전체 정렬
+     */
+    @Benchmark
+    public List<Post> fullSortWithScoreMap() {
+        Map<String, Double> postScores = new HashMap<>();
+        for (int i = 0; i < candidates; i++) {
+            postScores.put(posts.get(i).getPostId(), scores[i]);
+        }
+        return posts.stream()
+                .sorted((p1, p2) -> Double.compare(
+                        postScores.getOrDefault(p2.getPostId(), 0.0),
+                        postScores.getOrDefault(p1.getPostId(), 0.0)))
+                .limit(k)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * primitive 점수 배열 + 크기 K 힙 선택
+     */
+    @Benchmark
+    public int[] topKSelect() {
+        return TopKSelector.select(scores, candidates, k);
+    }
+
+    /**
+     * 점수 계산을 포함한 전체 랭킹 단계
+     */
+    @Benchmark
+    public List<Post> rankTopKEndToEnd() {
+        return personalizationService.rankTopK(posts, userData, k);
+    }
+}
@@ -0,0 +1,140 @@
+package com.khu.acc.newsfeed.benchmark;
+
+import com.khu.acc.newsfeed.model.Post;
+import com.khu.acc.newsfeed.ranking.ScoringKernel;
+import com.khu.acc.newsfeed.ranking.TagDictionary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 개인화 점수 계산 커널 벤치마크 (기존 per-post 계산 vs 사전 인코딩 커널)
+ * <p>
+ * 할당량 확인: ./gradlew jmh -PjmhArgs="ScoringKernelBenchmark -prof gc"
+ * (gc.alloc.rate.norm 이 후보 수에 비례하지 않아야 한다)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoringKernelBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(ScoringKernelBenchmark.class);
+    private static final String[] TAGS = {"travel", "food", "music", "sports", "tech", "art", "movie", "book",
+            "game", "fashion", "pet", "news", "science", "health", "photo", "dance"};
+
+    @Param({"100", "1000", "10000"})
+    private int candidates;
+
+    private List<Post> posts;
+    private double[] scores;
+    private Set<String> interests;
+    private Set<String> frequentAuthors;
+    private TagDictionary tagDictionary;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        Instant now = Instant.now();
+
+        tagDictionary = new TagDictionary();
+        for (String tag : TAGS) {
+            tagDictionary.intern(tag);
+        }
+
+        posts = new ArrayList<>(candidates);
+        for (int i = 0; i < candidates; i++) {
+            Set<String> tags = new HashSet<>();
+            int tagCount = 1 + random.nextInt(4);
+            for (int t = 0; t < tagCount; t++) {
+                tags.add(TAGS[random.nextInt(TAGS.length)]);
+            }
+            posts.add(Post.builder()
+                    .postId("post_" + i)
+                    .userId("user_" + random.nextInt(200))
+                    .tags(tags)
+                    .likesCount((long) random.nextInt(1000))
+                    .commentsCount((long) random.nextInt(200))
+                    .isActive(true)
+                    .createdAt(now.minus(random.nextInt(24 * 7), ChronoUnit.HOURS))
+                    .build());
+        }
+
+        scores = new double[candidates];
+        interests = Set.of("travel", "tech", "music", "photo");
+        frequentAuthors = Set.of("user_1", "user_2", "user_3");
+    }
+
+    /**
+     * 기존 방식: 후보마다 관심사 HashSet 복사, Instant.now(), 디버그 로그 인자 boxing
+     */
+    @Benchmark
+    public void legacyPerPostScoring(Blackhole blackhole) {
+        for (int i = 0; i < candidates; i++) {
+            scores[i] = legacyScore(posts.get(i));
+        }
+        blackhole.consume(scores);
+    }
+
+    /**
+     * 사전 인코딩 커널: 요청당 시각 1회, 태그 교집합 popcount, 후보별 할당 없음
+     */
+    @Benchmark
+    public void kernelScoring(Blackhole blackhole) {
+        ScoringKernel kernel = new ScoringKernel(tagDictionary, interests, frequentAuthors,
+                System.currentTimeMillis(), candidates);
+        for (int i = 0; i < candidates; i++) {
+            kernel.add(posts.get(i));
+        }
+        kernel.score(scores);
+        blackhole.consume(scores);
+    }
+
+    private double legacyScore(Post post) {
+        double interestScore;
+        if (post.getTags() == null || post.getTags().isEmpty()) {
+            interestScore = 0.5;
+        } else {
+            Set<String> intersection = new HashSet<>(interests);
+            intersection.retainAll(post.getTags());
+            interestScore = intersection.isEmpty()
+                    ? 0.3
+                    : 0.5 + (double) intersection.size() / Math.max(interests.size(), post.getTags().size()) * 0.5;
+        }
+
+        double engagementScore = Math.min(1.0,
+                Math.log(1 + post.getLikesCount() + (post.getCommentsCount() * 2)) / 10.0);
+
+        long hoursAgo = ChronoUnit.HOURS.between(post.getCreatedAt(), Instant.now());
+        double recencyScore = hoursAgo <= 24 ? 1.0 : hoursAgo <= 168 ? 1.0 - (hoursAgo - 24) / 168.0 * 0.9 : 0.1;
+
+        double authorScore = frequentAuthors.contains(post.getUserId()) ? 1.0 : 0.5;
+
+        double totalScore = interestScore * 0.4 + engagementScore * 0.3 + recencyScore * 0.2 + authorScore * 0.1;
+        log.debug("Post {} scores - Interest: {}, Engagement: {}, Recency: {}, Author: {}, Total: {}",
+                post.getPostId(), interestScore, engagementScore, recencyScore, authorScore, totalScore);
+        return totalScore;
+    }
+}
@@ -0,0 +1,172 @@
+package com.khu.acc.newsfeed.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class CoalescingCacheTest {
+
+    private final ConcurrentMapCache delegate = new ConcurrentMapCache("newsFeed");
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        CoalescingCache cache = cache(Duration.ofSeconds(1));
+
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> cache.get("user_1", () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            release.await();
+            return "feed";
+        }));
+        assertThat(loading.await(1, TimeUnit.SECONDS)).isTrue();
+
+        // 로드 중에 들어온 같은 키 요청은 진행 중인 로드에 합류
+        Future<String> follower = executor.submit(() -> cache.get("user_1", () -> {
+            loads.incrementAndGet();
+            return "other";
+        }));
+        Thread.sleep(50);
+        release.countDown();
+
+        assertThat(leader.get(1, TimeUnit.SECONDS)).isEqualTo("feed");
+        assertThat(follower.get(1, TimeUnit.SECONDS)).isEqualTo("feed");
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(delegate.get("user_1").get()).isEqualTo("feed");
+    }
+
+    @Test
+    void waitsForLeaseHolderInsteadOfLoading() throws Exception {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        CoalescingCache cache = cache(Duration.ofSeconds(1));
+
+        // 임대를 가진 다른 노드가 잠시 뒤 값을 채움
+        executor.submit(() -> {
+            Thread.sleep(100);
+            delegate.put("user_1", "from-leader");
+            return null;
+        });
+
+        AtomicInteger loads = new AtomicInteger();
+        String value = cache.get("user_1", () -> {
+            loads.incrementAndGet();
+            return "local";
+        });
+
+        assertThat(value).isEqualTo("from-leader");
+        assertThat(loads.get()).isZero();
+    }
+
+    @Test
+    void loadsItselfWhenLeaseHolderNeverFills() {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        CoalescingCache cache = cache(Duration.ofMillis(100));
+
+        String value = cache.get("user_1", () -> "local");
+
+        assertThat(value).isEqualTo("local");
+        assertThat(delegate.get("user_1").get()).isEqualTo("local");
+    }
+
+    @Test
+    void skippedResultsAreNotCached() {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        CoalescingCache cache = new CoalescingCache(delegate, "partial"::equals, stringRedisTemplate,
+                new SimpleMeterRegistry(), Duration.ofSeconds(5), Duration.ofSeconds(1), null, null, executor);
+
+        assertThat(cache.get("user_1", () -> "partial")).isEqualTo("partial");
+        assertThat(delegate.get("user_1")).isNull();
+    }
+
+    @Test
+    void refreshAheadRecomputesThroughLoaderNotRequestInvoker() throws Exception {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        CacheRefreshLoader loader = mock(CacheRefreshLoader.class);
+        when(loader.load("newsFeed", "user_1")).thenReturn("fresh");
+        CoalescingCache cache = refreshAheadCache(loader, Runnable::run);
+        // 논리 만료가 지난 값
+        delegate.put("user_1", new CacheEnvelope<>("stale", 10L, System.currentTimeMillis() - 1_000L));
+
+        AtomicInteger requestLoads = new AtomicInteger();
+        String value = cache.get("user_1", () -> {
+            requestLoads.incrementAndGet();
+            return "from-request";
+        });
+
+        assertThat(value).isEqualTo("stale");
+        assertThat(requestLoads.get()).isZero();
+        verify(loader).load("newsFeed", "user_1");
+        assertThat(cache.get("user_1").get()).isEqualTo("fresh");
+        assertThat(refreshCount("completed")).isEqualTo(1.0);
+    }
+
+    @Test
+    void rejectedRefreshIsCounted() {
+        CacheRefreshLoader loader = mock(CacheRefreshLoader.class);
+        CoalescingCache cache = refreshAheadCache(loader, runnable -> {
+            throw new RejectedExecutionException("queue full");
+        });
+        delegate.put("user_1", new CacheEnvelope<>("stale", 10L, System.currentTimeMillis() - 1_000L));
+
+        assertThat(cache.get("user_1", () -> "from-request")).isEqualTo("stale");
+        assertThat(refreshCount("rejected")).isEqualTo(1.0);
+        verifyNoInteractions(loader);
+    }
+
+    private CoalescingCache refreshAheadCache(CacheRefreshLoader loader, Executor refreshExecutor) {
+        CoalescingCache.RefreshAheadSpec spec =
+                new CoalescingCache.RefreshAheadSpec(Duration.ofMinutes(30), Duration.ofMinutes(2), 1.0);
+        return new CoalescingCache(delegate, value -> false, stringRedisTemplate, meterRegistry,
+                Duration.ofSeconds(5), Duration.ofSeconds(1), spec, loader, refreshExecutor);
+    }
+
+    private double refreshCount(String outcome) {
+        return meterRegistry.counter("cache.refresh.ahead", "cache", "newsFeed", "outcome", outcome).count();
+    }
+
+    private CoalescingCache cache(Duration leaseWait) {
+        return new CoalescingCache(delegate, value -> false, stringRedisTemplate, new SimpleMeterRegistry(),
+                Duration.ofSeconds(5), leaseWait, null, null, executor);
+    }
+}
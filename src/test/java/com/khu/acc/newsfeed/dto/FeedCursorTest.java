@@ -0,0 +1,95 @@
+package com.khu.acc.newsfeed.dto;
+
+import com.khu.acc.newsfeed.model.Post;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FeedCursorTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Test
+    void encodeAndDecodeRoundTrip() {
+        FeedCursor decoded = FeedCursor.decode(FeedCursor.after(NOW, "post_b").encode());
+
+        assertThat(decoded.getCreatedAt()).isEqualTo(NOW);
+        assertThat(decoded.getPostId()).isEqualTo("post_b");
+        assertThat(decoded.getKind()).isEqualTo(FeedCursor.Kind.KEYSET);
+        assertThat(FeedCursor.decodeOffset(FeedCursor.atOffset(40).encode()).getOffset()).isEqualTo(40);
+    }
+
+    @Test
+    void decodeRejectsGarbage() {
+        assertThat(FeedCursor.decode(null)).isNull();
+        assertThatThrownBy(() -> FeedCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void decodeRejectsCursorsMissingPosition() {
+        // 클라이언트가 만든 커서라도 조회 스레드에서 NPE 가 아닌 400 으로 끝나야 함
+        assertThatThrownBy(() -> FeedCursor.decode(raw("|post_b|0")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FeedCursor.decode(raw(NOW + "||0")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FeedCursor.decodeOffset(raw("||-1")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void decodeRejectsCursorOfOtherKind() {
+        String offsetCursor = FeedCursor.atOffset(20).encode();
+        String keysetCursor = FeedCursor.after(NOW, "post_b").encode();
+
+        assertThatThrownBy(() -> FeedCursor.decode(offsetCursor))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FeedCursor.decodeOffset(keysetCursor))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void nextOfIsNullWhenWindowIsNotFull() {
+        List<Post> window = List.of(post("post_a", NOW));
+
+        assertThat(FeedCursor.nextOf(window, 2)).isNull();
+    }
+
+    @Test
+    void nextOfPointsAtOldestCandidateEvenWhenWindowIsReordered() {
+        Post newest = post("post_c", NOW);
+        Post oldest = post("post_a", NOW.minusSeconds(60));
+        Post middle = post("post_b", NOW.minusSeconds(30));
+
+        // 랭킹으로 재정렬된 윈도우여도 가장 오래된 후보 다음부터
+        String next = FeedCursor.nextOf(List.of(middle, newest, oldest), 3);
+
+        FeedCursor cursor = FeedCursor.decode(next);
+        assertThat(cursor.getPostId()).isEqualTo("post_a");
+        assertThat(cursor.isBefore(oldest)).isFalse();
+        assertThat(cursor.isBefore(post("post_0", NOW.minusSeconds(61)))).isTrue();
+    }
+
+    @Test
+    void isBeforeBreaksTiesByPostId() {
+        FeedCursor cursor = FeedCursor.after(NOW, "post_m");
+
+        assertThat(cursor.isBefore(post("post_a", NOW))).isTrue();
+        assertThat(cursor.isBefore(post("post_m", NOW))).isFalse();
+        assertThat(cursor.isBefore(post("post_z", NOW))).isFalse();
+    }
+
+    private static String raw(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Post post(String postId, Instant createdAt) {
+        return Post.builder().postId(postId).createdAt(createdAt).isActive(true).build();
+    }
+}
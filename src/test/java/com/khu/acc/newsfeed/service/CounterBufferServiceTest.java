@@ -0,0 +1,115 @@
+package com.khu.acc.newsfeed.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CounterBufferServiceTest {
+
+    private static final String PENDING_KEY = "counter:pending:likesCount:post_1";
+
+    private final CounterService counterService = mock(CounterService.class);
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    private final StringRedisConnection redis = mock(StringRedisConnection.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CounterBufferService counterBufferService;
+
+    @BeforeEach
+    void setUp() {
+        counterBufferService = new CounterBufferService(counterService, stringRedisTemplate, meterRegistry);
+        ReflectionTestUtils.setField(counterBufferService, "maxPendingKeys", 10_000);
+        ReflectionTestUtils.setField(counterBufferService, "pendingTtl", Duration.ofMinutes(10));
+        counterBufferService.init();
+
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            ((RedisCallback<?>) invocation.getArgument(0)).doInRedis(redis);
+            return List.of();
+        });
+    }
+
+    @Test
+    void deltasAreSummedIntoOneWrite() {
+        when(counterService.add(CounterService.Counter.POST_LIKES, "post_1", 3)).thenReturn(OptionalLong.of(3));
+
+        counterBufferService.increment(CounterService.Counter.POST_LIKES, "post_1");
+        counterBufferService.increment(CounterService.Counter.POST_LIKES, "post_1");
+        counterBufferService.increment(CounterService.Counter.POST_LIKES, "post_1");
+        counterBufferService.flush();
+
+        verify(redis, times(3)).incrBy(PENDING_KEY, 1);
+        verify(counterService).add(CounterService.Counter.POST_LIKES, "post_1", 3);
+        verify(redis).decrBy(PENDING_KEY, 3);
+
+        // 반영된 delta 는 다시 쓰지 않음
+        counterBufferService.flush();
+        verify(counterService, times(1)).add(any(), anyString(), anyLong());
+    }
+
+    @Test
+    void rejectedDeltaStaysPendingUntilAccepted() {
+        when(counterService.add(CounterService.Counter.POST_LIKES, "post_1", -1))
+                .thenReturn(OptionalLong.empty())
+                .thenReturn(OptionalLong.of(0));
+
+        counterBufferService.decrement(CounterService.Counter.POST_LIKES, "post_1");
+        counterBufferService.flush();
+
+        verify(redis, never()).decrBy(anyString(), anyLong());
+
+        counterBufferService.flush();
+
+        verify(counterService, times(2)).add(CounterService.Counter.POST_LIKES, "post_1", -1);
+        verify(redis).decrBy(PENDING_KEY, -1);
+        assertThat(meterRegistry.counter("counter.buffer.discarded").count()).isZero();
+    }
+
+    @Test
+    void repeatedlyRejectedDeltaIsDiscarded() {
+        when(counterService.add(CounterService.Counter.POST_LIKES, "post_1", -1)).thenReturn(OptionalLong.empty());
+
+        counterBufferService.decrement(CounterService.Counter.POST_LIKES, "post_1");
+        counterBufferService.flush();
+        counterBufferService.flush();
+
+        verify(redis, never()).decrBy(anyString(), anyLong());
+
+        counterBufferService.flush();
+
+        verify(counterService, times(3)).add(CounterService.Counter.POST_LIKES, "post_1", -1);
+        verify(redis).decrBy(PENDING_KEY, -1);
+        assertThat(meterRegistry.counter("counter.buffer.discarded").count()).isEqualTo(1.0);
+
+        counterBufferService.flush();
+        verify(counterService, times(3)).add(any(), anyString(), anyLong());
+    }
+
+    @Test
+    void shutdownFlushesRemainingDeltas() {
+        when(counterService.add(CounterService.Counter.POST_COMMENTS, "post_1", 1)).thenReturn(OptionalLong.of(1));
+
+        counterBufferService.increment(CounterService.Counter.POST_COMMENTS, "post_1");
+        counterBufferService.shutdown();
+
+        verify(counterService).add(CounterService.Counter.POST_COMMENTS, "post_1", 1);
+        verify(redis).decrBy("counter:pending:commentsCount:post_1", 1);
+    }
+}
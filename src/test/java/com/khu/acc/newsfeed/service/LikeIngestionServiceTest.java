@@ -0,0 +1,172 @@
+package com.khu.acc.newsfeed.service;
+
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import com.amazonaws.services.dynamodbv2.model.CancellationReason;
+import com.amazonaws.services.dynamodbv2.model.TransactWriteItemsRequest;
+import com.amazonaws.services.dynamodbv2.model.TransactWriteItemsResult;
+import com.amazonaws.services.dynamodbv2.model.TransactionCanceledException;
+import com.khu.acc.newsfeed.event.PostEngagementEvent;
+import com.khu.acc.newsfeed.model.Post;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LikeIngestionServiceTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final AmazonDynamoDB amazonDynamoDB = mock(AmazonDynamoDB.class);
+    private final DynamoDBMapper dynamoDBMapper = mock(DynamoDBMapper.class);
+    private final MembershipFilterService membershipFilterService = mock(MembershipFilterService.class);
+    private final CounterBufferService counterBufferService = mock(CounterBufferService.class);
+    private final LikerIndexService likerIndexService = mock(LikerIndexService.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private LikeIngestionService likeIngestionService;
+
+    @BeforeEach
+    void setUp() {
+        likeIngestionService = new LikeIngestionService(amazonDynamoDB, dynamoDBMapper, DynamoDBMapperConfig.DEFAULT,
+                membershipFilterService, counterBufferService, likerIndexService, eventPublisher, meterRegistry);
+        ReflectionTestUtils.setField(likeIngestionService, "capacity", 100);
+        ReflectionTestUtils.setField(likeIngestionService, "batchWindowMs", 20L);
+        ReflectionTestUtils.setField(likeIngestionService, "maxBatch", 50);
+        ReflectionTestUtils.setField(likeIngestionService, "maxRetries", 2);
+        ReflectionTestUtils.setField(likeIngestionService, "baseBackoffMs", 1L);
+        ReflectionTestUtils.setField(likeIngestionService, "maxRequeues", 3);
+        // 처음 본 쌍이므로 현재 상태 조회 없이 "좋아요 안 함"으로 판단
+        when(membershipFilterService.mightLike(anyString(), anyString())).thenReturn(false);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        likeIngestionService.shutdown();
+    }
+
+    @Test
+    void likeIsWrittenAndPropagated() {
+        when(amazonDynamoDB.transactWriteItems(any(TransactWriteItemsRequest.class))).thenReturn(new TransactWriteItemsResult());
+        start();
+
+        likeIngestionService.submit(LikeIngestionService.LikeCommand.like(post("post_1"), "user_1"));
+
+        await().atMost(TIMEOUT).untilAsserted(() ->
+                verify(counterBufferService).add(CounterService.Counter.POST_LIKES, "post_1", 1));
+        verify(amazonDynamoDB).transactWriteItems(any(TransactWriteItemsRequest.class));
+        verify(likerIndexService).apply(anyCollection());
+        verify(eventPublisher).publishEvent(any(PostEngagementEvent.class));
+    }
+
+    @Test
+    void likeThenUnlikeInSameBatchWritesNothing() throws InterruptedException {
+        // 작업 스레드 시작 전에 두 명령을 적재해 한 묶음으로 처리되게 함
+        ReflectionTestUtils.setField(likeIngestionService, "running", true);
+        Post post = post("post_1");
+        likeIngestionService.submit(LikeIngestionService.LikeCommand.like(post, "user_1"));
+        likeIngestionService.submit(LikeIngestionService.LikeCommand.unlike("post_1", post, "user_1"));
+        start();
+
+        await().atMost(TIMEOUT).until(() ->
+                meterRegistry.counter("like.pipeline.deduplicated").count() == 1.0);
+        likeIngestionService.shutdown();
+
+        verify(amazonDynamoDB, never()).transactWriteItems(any(TransactWriteItemsRequest.class));
+        verify(counterBufferService, never()).add(any(), anyString(), anyLong());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void failedBatchIsRequeuedAndWrittenOnNextCycle() {
+        when(amazonDynamoDB.transactWriteItems(any(TransactWriteItemsRequest.class)))
+                .thenThrow(new IllegalStateException("connection reset"))
+                .thenReturn(new TransactWriteItemsResult());
+        start();
+
+        likeIngestionService.submit(LikeIngestionService.LikeCommand.like(post("post_1"), "user_1"));
+
+        await().atMost(TIMEOUT).untilAsserted(() ->
+                verify(counterBufferService).add(CounterService.Counter.POST_LIKES, "post_1", 1));
+        verify(amazonDynamoDB, times(2)).transactWriteItems(any(TransactWriteItemsRequest.class));
+        assertThat(meterRegistry.counter("like.pipeline.requeued").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("like.pipeline.failed").count()).isZero();
+    }
+
+    @Test
+    void commandsAreDroppedAfterMaxRequeues() {
+        when(amazonDynamoDB.transactWriteItems(any(TransactWriteItemsRequest.class)))
+                .thenThrow(new IllegalStateException("connection reset"));
+        start();
+
+        likeIngestionService.submit(LikeIngestionService.LikeCommand.like(post("post_1"), "user_1"));
+
+        await().atMost(TIMEOUT).until(() -> meterRegistry.counter("like.pipeline.failed").count() == 1.0);
+        // 최초 1회 + 다시 처리 3회
+        verify(amazonDynamoDB, times(4)).transactWriteItems(any(TransactWriteItemsRequest.class));
+        verify(counterBufferService, never()).add(any(), anyString(), anyLong());
+    }
+
+    @Test
+    void conditionFailureMeansAnotherInstanceAppliedIt() {
+        // 다른 인스턴스가 먼저 같은 좋아요를 써서 조건부 Put 이 실패한 경우
+        TransactionCanceledException canceled = new TransactionCanceledException("Transaction cancelled");
+        canceled.setCancellationReasons(List.of(new CancellationReason().withCode("ConditionalCheckFailed")));
+        when(amazonDynamoDB.transactWriteItems(any(TransactWriteItemsRequest.class))).thenThrow(canceled);
+        start();
+
+        likeIngestionService.submit(LikeIngestionService.LikeCommand.like(post("post_1"), "user_1"));
+
+        await().atMost(TIMEOUT).until(() -> meterRegistry.counter("like.pipeline.unchanged").count() == 1.0);
+        verify(amazonDynamoDB).transactWriteItems(any(TransactWriteItemsRequest.class));
+        verify(counterBufferService, never()).add(any(), anyString(), anyLong());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+        assertThat(meterRegistry.counter("like.pipeline.requeued").count()).isZero();
+    }
+
+    @Test
+    void likerIndexFailureDoesNotLoseCommittedCounter() {
+        when(amazonDynamoDB.transactWriteItems(any(TransactWriteItemsRequest.class)))
+                .thenReturn(new TransactWriteItemsResult());
+        doThrow(new IllegalStateException("redis down")).when(likerIndexService).apply(anyCollection());
+        start();
+
+        likeIngestionService.submit(LikeIngestionService.LikeCommand.like(post("post_1"), "user_1"));
+
+        await().atMost(TIMEOUT).until(() ->
+                meterRegistry.counter("like.pipeline.propagation.failed").count() == 1.0);
+        verify(counterBufferService).add(CounterService.Counter.POST_LIKES, "post_1", 1);
+        verify(eventPublisher).publishEvent(any(PostEngagementEvent.class));
+        verify(amazonDynamoDB).transactWriteItems(any(TransactWriteItemsRequest.class));
+        assertThat(meterRegistry.counter("like.pipeline.requeued").count()).isZero();
+    }
+
+    private void start() {
+        likeIngestionService.init();
+    }
+
+    private static Post post(String postId) {
+        return Post.builder().postId(postId).userId("author").tags(Set.of()).isActive(true).build();
+    }
+}
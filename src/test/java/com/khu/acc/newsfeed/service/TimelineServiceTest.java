@@ -0,0 +1,154 @@
+package com.khu.acc.newsfeed.service;
+
+import com.khu.acc.newsfeed.dto.CursorPage;
+import com.khu.acc.newsfeed.dto.FeedCursor;
+import com.khu.acc.newsfeed.model.Post;
+import com.khu.acc.newsfeed.model.User;
+import com.khu.acc.newsfeed.repository.FollowEdgeRepository;
+import com.khu.acc.newsfeed.repository.PostRepository;
+import com.khu.acc.newsfeed.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TimelineServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    private final StringRedisConnection redis = mock(StringRedisConnection.class);
+    @SuppressWarnings("unchecked")
+    private final ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private final FollowEdgeRepository followEdgeRepository = mock(FollowEdgeRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final FanOutPolicy fanOutPolicy = mock(FanOutPolicy.class);
+    private final FeedCandidateEngine feedCandidateEngine = mock(FeedCandidateEngine.class);
+
+    private TimelineService timelineService;
+
+    @BeforeEach
+    void setUp() {
+        timelineService = new TimelineService(stringRedisTemplate, postRepository, followEdgeRepository,
+                userRepository, fanOutPolicy, feedCandidateEngine, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(timelineService, "maxSize", 800);
+        ReflectionTestUtils.setField(timelineService, "ttl", Duration.ofDays(7));
+
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            ((RedisCallback<?>) invocation.getArgument(0)).doInRedis(redis);
+            return List.of();
+        });
+    }
+
+    @Test
+    void fanOutAddsPostToEveryFollowerTimeline() {
+        Post post = post("post_1", NOW, true);
+        when(userRepository.findById("author")).thenReturn(Optional.of(author(10L)));
+        when(fanOutPolicy.isPullAuthor(any(User.class))).thenReturn(false);
+        when(followEdgeRepository.findFollowerIds("author")).thenReturn(List.of("follower_1", "follower_2"));
+
+        timelineService.fanOutPost(post);
+
+        double score = NOW.toEpochMilli();
+        verify(redis).zAdd("timeline:follower_1", score, "post_1");
+        verify(redis).zAdd("timeline:follower_2", score, "post_1");
+        verify(redis).zRemRange("timeline:follower_1", 0, -801);
+        verify(redis).expire("timeline:follower_2", Duration.ofDays(7).getSeconds());
+    }
+
+    @Test
+    void pullAuthorsAreRecordedInsteadOfFannedOut() {
+        Post post = post("post_1", NOW, true);
+        when(userRepository.findById("author")).thenReturn(Optional.of(author(50_000L)));
+        when(fanOutPolicy.isPullAuthor(any(User.class))).thenReturn(true);
+
+        timelineService.fanOutPost(post);
+
+        verify(redis).zAdd("timeline:pull-authors:recent", NOW.toEpochMilli(), "author");
+        verify(redis).zRemRangeByScore(eq("timeline:pull-authors:recent"), anyDouble(), anyDouble());
+        verify(followEdgeRepository, never()).findFollowerIds(anyString());
+    }
+
+    @Test
+    void removePostDeletesItFromFollowerTimelines() {
+        when(followEdgeRepository.findFollowerIds("author")).thenReturn(List.of("follower_1"));
+
+        timelineService.removePost(post("post_1", NOW, false));
+
+        verify(redis).zRem("timeline:follower_1", "post_1");
+    }
+
+    @Test
+    void nextCursorComesFromRawWindowWhenPostsAreFilteredOut() {
+        when(stringRedisTemplate.hasKey("timeline:reader:built")).thenReturn(true);
+        Set<ZSetOperations.TypedTuple<String>> entries = new LinkedHashSet<>();
+        entries.add(new DefaultTypedTuple<>("post_3", (double) NOW.toEpochMilli()));
+        entries.add(new DefaultTypedTuple<>("post_2", (double) NOW.minusSeconds(10).toEpochMilli()));
+        entries.add(new DefaultTypedTuple<>("post_1", (double) NOW.minusSeconds(20).toEpochMilli()));
+        when(zSetOperations.reverseRangeByScoreWithScores(eq("timeline:reader"), anyDouble(), anyDouble(),
+                anyLong(), anyLong())).thenReturn(entries);
+        // 가장 오래된 후보가 삭제되어 하이드레이션에서 빠짐
+        when(postRepository.findAllById(any())).thenReturn(List.of(
+                post("post_3", NOW, true),
+                post("post_2", NOW.minusSeconds(10), true),
+                post("post_1", NOW.minusSeconds(20), false)));
+
+        CursorPage<Post> page = timelineService.getTimelinePosts("reader", List.of(), null, 3);
+
+        assertThat(page.getItems()).extracting(Post::getPostId).containsExactly("post_3", "post_2");
+        FeedCursor next = FeedCursor.decode(page.getNextCursor());
+        assertThat(next.getPostId()).isEqualTo("post_1");
+        assertThat(next.getCreatedAt()).isEqualTo(NOW.minusSeconds(20));
+    }
+
+    @Test
+    void shortWindowEndsTheFeed() {
+        when(stringRedisTemplate.hasKey("timeline:reader:built")).thenReturn(true);
+        Set<ZSetOperations.TypedTuple<String>> entries = new LinkedHashSet<>();
+        entries.add(new DefaultTypedTuple<>("post_1", (double) NOW.toEpochMilli()));
+        when(zSetOperations.reverseRangeByScoreWithScores(eq("timeline:reader"), anyDouble(), anyDouble(),
+                anyLong(), anyLong())).thenReturn(entries);
+        when(postRepository.findAllById(any())).thenReturn(List.of(post("post_1", NOW, true)));
+
+        CursorPage<Post> page = timelineService.getTimelinePosts("reader", List.of(), null, 3);
+
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    private static Post post(String postId, Instant createdAt, boolean active) {
+        return Post.builder().postId(postId).userId("author").createdAt(createdAt).isActive(active).build();
+    }
+
+    private static User author(long followersCount) {
+        User user = new User();
+        user.setUserId("author");
+        user.setFollowersCount(followersCount);
+        return user;
+    }
+}
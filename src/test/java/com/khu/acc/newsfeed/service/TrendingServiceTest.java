@@ -0,0 +1,82 @@
+package com.khu.acc.newsfeed.service;
+
+import com.khu.acc.newsfeed.event.PostEngagementEvent;
+import com.khu.acc.newsfeed.repository.PostRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TrendingServiceTest {
+
+    private static final Duration BUCKET_SIZE = Duration.ofMinutes(5);
+
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private TrendingService trendingService;
+
+    @BeforeEach
+    void setUp() {
+        trendingService = new TrendingService(stringRedisTemplate, mock(PostRepository.class), meterRegistry);
+        ReflectionTestUtils.setField(trendingService, "bucketSize", BUCKET_SIZE);
+        ReflectionTestUtils.setField(trendingService, "window", Duration.ofHours(24));
+        ReflectionTestUtils.setField(trendingService, "halfLife", Duration.ofHours(6));
+        ReflectionTestUtils.setField(trendingService, "topN", 500);
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    }
+
+    @Test
+    void undoIsAppliedToTheOriginalEngagementBucket() {
+        Instant commentedAt = Instant.now().minus(Duration.ofHours(20));
+
+        trendingService.onEngagement(PostEngagementEvent.of("post_1", "user_1", PostEngagementEvent.Type.UNCOMMENT)
+                .undoing(commentedAt));
+
+        // 현재 버킷이 아닌 원래 댓글 버킷에서 빼야 같은 감쇠 가중치로 상쇄됨
+        verify(zSetOperations).incrementScore(bucketKey(commentedAt), "post_1", -2.0);
+    }
+
+    @Test
+    void undoOutsideWindowIsDropped() {
+        Instant likedAt = Instant.now().minus(Duration.ofHours(25));
+
+        trendingService.onEngagement(PostEngagementEvent.of("post_1", "user_1", PostEngagementEvent.Type.UNLIKE)
+                .undoing(likedAt));
+
+        verify(zSetOperations, never()).incrementScore(anyString(), anyString(), anyDouble());
+        assertThat(meterRegistry.counter("trending.events.expired", "type", "UNLIKE").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void leaderboardIsClearedWhenEveryPostScoresBelowZero() {
+        when(zSetOperations.unionAndStore(anyString(), any(), anyString(), any(), any())).thenReturn(3L);
+        when(zSetOperations.zCard(anyString())).thenReturn(0L);
+
+        trendingService.refreshLeaderboard();
+
+        verify(stringRedisTemplate).delete("trending:leaderboard");
+        verify(stringRedisTemplate, never()).rename(anyString(), eq("trending:leaderboard"));
+    }
+
+    private static String bucketKey(Instant instant) {
+        return "trending:bucket:" + instant.toEpochMilli() / BUCKET_SIZE.toMillis();
+    }
+}